@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.ydb.io.r2dbc.query.YdbQuery;
+import tech.ydb.io.r2dbc.query.YdbSqlParser;
+import tech.ydb.io.r2dbc.statement.binding.Binding;
+import tech.ydb.table.query.Params;
+
+/**
+ * Per-execution work on the bound parameters: binding the values, building the params
+ * and getting the yql with the DECLARE prelude.
+ *
+ * @author Egor Kuleshov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindingBenchmark {
+    @Param({"1", "8", "32"})
+    private int parameters;
+
+    private YdbQuery query;
+    private Binding binding;
+
+    @Setup
+    public void setup() {
+        StringBuilder sql = new StringBuilder("SELECT * FROM users WHERE id IN (");
+        for (int i = 0; i < parameters; i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        query = YdbSqlParser.parse(sql.append(")").toString());
+        binding = bind();
+    }
+
+    @Benchmark
+    public Binding bind() {
+        Binding binding = new Binding(query.getIndexArgNames());
+        for (int i = 0; i < parameters; i++) {
+            binding.bind(i, (long) i);
+        }
+
+        return binding;
+    }
+
+    @Benchmark
+    public Params toParams() {
+        return binding.toParams();
+    }
+
+    @Benchmark
+    public String getYqlQuery() {
+        return query.getYqlQuery(binding);
+    }
+}
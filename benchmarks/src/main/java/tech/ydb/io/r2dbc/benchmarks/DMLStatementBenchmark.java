@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.benchmarks;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.ydb.core.Result;
+import tech.ydb.io.r2dbc.OperationsConfig;
+import tech.ydb.io.r2dbc.YdbConnection;
+import tech.ydb.io.r2dbc.YdbContext;
+import tech.ydb.io.r2dbc.state.OutsideTransactionState;
+import tech.ydb.proto.table.YdbTable;
+import tech.ydb.table.Session;
+import tech.ydb.table.impl.PooledTableClient;
+import tech.ydb.table.query.DataQueryResult;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * End-to-end execution of a prepared statement in auto-commit mode against a mocked session,
+ * from the sql through the parameter binding up to the mapped rows. Measures the driver overhead only.
+ *
+ * @author Egor Kuleshov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DMLStatementBenchmark {
+    private static final String SQL = "SELECT * FROM users WHERE id > ? AND name = ?";
+
+    @Param({"1", "100"})
+    private int rows;
+
+    private YdbConnection connection;
+
+    @Setup
+    public void setup() {
+        CompletableFuture<Result<DataQueryResult>> dataQueryResult = CompletableFuture.completedFuture(
+                Result.success(new DataQueryResult(YdbTable.ExecuteQueryResult.newBuilder()
+                        .addResultSets(ResultSets.resultSet(10, rows))
+                        .build())));
+
+        Session session = Mockito.mock(Session.class);
+        when(session.executeDataQuery(any(), any(), any(), any())).thenReturn(dataQueryResult);
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        when(tableClient.createSession(any())).thenReturn(CompletableFuture.completedFuture(Result.success(session)));
+
+        YdbContext ydbContext = new YdbContext(tableClient, OperationsConfig.defaultConfig());
+        connection = new YdbConnection(ydbContext,
+                new OutsideTransactionState(ydbContext, ydbContext.getDefaultYdbTxSettings()));
+    }
+
+    @Benchmark
+    public Object execute() {
+        return connection.createStatement(SQL)
+                .bind(0, 1L)
+                .bind(1, "name")
+                .execute()
+                .concatMap(result -> result.map((row, rowMetadata) -> row.get(0)))
+                .blockLast();
+    }
+}
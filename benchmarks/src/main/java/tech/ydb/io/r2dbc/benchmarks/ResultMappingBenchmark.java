@@ -0,0 +1,82 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.ydb.io.r2dbc.result.YdbResult;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+
+/**
+ * Mapping of the rows of a result set, reading all the columns or only the first one of each row.
+ *
+ * @author Egor Kuleshov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultMappingBenchmark {
+    @Param({"3", "10", "40"})
+    private int columns;
+
+    @Param({"1000"})
+    private int rows;
+
+    private ResultSetReader resultSetReader;
+
+    @Setup
+    public void setup() {
+        resultSetReader = ProtoValueReaders.forResultSet(ResultSets.resultSet(columns, rows));
+    }
+
+    @Benchmark
+    public void mapAllColumns(Blackhole blackhole) {
+        new YdbResult(resultSetReader, false)
+                .map((row, rowMetadata) -> {
+                    for (int column = 0; column < columns; column++) {
+                        blackhole.consume(row.get(column));
+                    }
+
+                    return row;
+                })
+                .blockLast();
+    }
+
+    @Benchmark
+    public void mapFirstColumn(Blackhole blackhole) {
+        new YdbResult(resultSetReader, false)
+                .map((row, rowMetadata) -> row.get(0, Long.class))
+                .doOnNext(blackhole::consume)
+                .blockLast();
+    }
+}
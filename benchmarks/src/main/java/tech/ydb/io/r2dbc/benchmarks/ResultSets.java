@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.benchmarks;
+
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.Type;
+
+/**
+ * Synthetic result sets for the benchmarks, columns cycle through Int64, optional Text and Double.
+ *
+ * @author Egor Kuleshov
+ */
+final class ResultSets {
+    private static final OptionalType OPTIONAL_TEXT = PrimitiveType.Text.makeOptional();
+
+    private ResultSets() {
+    }
+
+    static ValueProtos.ResultSet resultSet(int columns, int rows) {
+        ValueProtos.ResultSet.Builder builder = ValueProtos.ResultSet.newBuilder();
+        for (int column = 0; column < columns; column++) {
+            builder.addColumns(ValueProtos.Column.newBuilder()
+                    .setName("column" + column)
+                    .setType(columnType(column).toPb()));
+        }
+
+        for (int row = 0; row < rows; row++) {
+            ValueProtos.Value.Builder rowBuilder = ValueProtos.Value.newBuilder();
+            for (int column = 0; column < columns; column++) {
+                rowBuilder.addItems(columnValue(column, row));
+            }
+            builder.addRows(rowBuilder);
+        }
+
+        return builder.build();
+    }
+
+    private static Type columnType(int column) {
+        return switch (column % 3) {
+            case 0 -> PrimitiveType.Int64;
+            case 1 -> OPTIONAL_TEXT;
+            default -> PrimitiveType.Double;
+        };
+    }
+
+    private static ValueProtos.Value columnValue(int column, int row) {
+        return switch (column % 3) {
+            case 0 -> PrimitiveValue.newInt64(row).toPb();
+            case 1 -> row % 10 == 0
+                    ? OPTIONAL_TEXT.emptyValue().toPb()
+                    : OPTIONAL_TEXT.newValue(PrimitiveValue.newText("value" + row)).toPb();
+            default -> PrimitiveValue.newDouble(row * 0.5).toPb();
+        };
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tech.ydb.io.r2dbc.query.YdbQuery;
+import tech.ydb.io.r2dbc.query.YdbSqlParser;
+
+/**
+ * Parsing of sql into yql with generated parameter names, done on each statement cache miss.
+ *
+ * @author Egor Kuleshov
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SqlParserBenchmark {
+    private static final String SHORT_SQL = "SELECT id, name FROM users WHERE id = ?";
+    private static final String LONG_SQL = longSql();
+
+    @Benchmark
+    public YdbQuery parseShort() {
+        return YdbSqlParser.parse(SHORT_SQL);
+    }
+
+    @Benchmark
+    public YdbQuery parseLong() {
+        return YdbSqlParser.parse(LONG_SQL);
+    }
+
+    private static String longSql() {
+        StringBuilder sql = new StringBuilder();
+        sql.append("-- report of the recent orders\n")
+                .append("UPSERT INTO orders (id, user_id, amount, comment) VALUES (?, ?, ?, 'it''s \"quoted\"');\n")
+                .append("/* the main query */\n")
+                .append("SELECT o.id, o.amount, u.name FROM orders AS o JOIN users AS u ON o.user_id = u.id\n")
+                .append("WHERE o.created_at > ? AND o.status IN (");
+        for (int i = 0; i < 32; i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+        sql.append(")\nORDER BY o.created_at DESC LIMIT ?;");
+
+        return sql.toString();
+    }
+}
@@ -19,7 +19,14 @@ package tech.ydb.io.r2dbc;
 import java.time.Duration;
 
 import io.r2dbc.spi.ConnectionFactoryOptions;
+import reactor.util.annotation.Nullable;
+import tech.ydb.io.r2dbc.metrics.YdbMetrics;
+import tech.ydb.io.r2dbc.metrics.YdbQueryStatsListener;
+import tech.ydb.io.r2dbc.metrics.YdbSlowQueryListener;
+import tech.ydb.io.r2dbc.metrics.YdbSlowQueryLog;
 import tech.ydb.io.r2dbc.options.OperationOptions;
+import tech.ydb.io.r2dbc.tracing.YdbTracer;
+import tech.ydb.table.query.stats.QueryStatsCollectionMode;
 
 /**
  * @author Egor Kuleshov
@@ -30,12 +37,66 @@ public class OperationsConfig {
     private static final Duration DEFAULT_SESSION_TIMEOUT = Duration.ofSeconds(5);
     private static final Duration DEFAULT_DEADLINE_TIMEOUT = Duration.ZERO;
     private static final int DEFAULT_STATEMENT_CACHE_SIZE = 256;
+    private static final int DEFAULT_PREPARED_STATEMENT_CACHE_SIZE = 0;
+    private static final boolean DEFAULT_BATCH_AS_TABLE = false;
+    private static final int DEFAULT_BATCH_MAX_ROWS = 1000;
+    private static final int DEFAULT_BATCH_MAX_BYTES = 4 * 1024 * 1024;
+    private static final boolean DEFAULT_SCAN_QUERY = false;
+    private static final int DEFAULT_STREAM_MAX_BUFFERED_PARTS = 64;
+    private static final boolean DEFAULT_IN_LIST_AS_PARAMETER = false;
+    private static final int DEFAULT_BULK_UPSERT_MAX_ROWS = 10_000;
+    private static final int DEFAULT_BULK_UPSERT_MAX_BYTES = 16 * 1024 * 1024;
+    private static final int DEFAULT_BULK_UPSERT_CONCURRENCY = 4;
+    private static final Duration DEFAULT_STICKY_SESSION_MAX_IDLE_TIME = Duration.ZERO;
+    private static final int DEFAULT_STICKY_SESSION_MAX_STATEMENTS = 1000;
+    private static final boolean DEFAULT_LAZY_BEGIN_TRANSACTION = false;
+    private static final int DEFAULT_RETRY_MAX_RETRIES = 0;
+    private static final Duration DEFAULT_RETRY_FAST_BACKOFF = Duration.ofMillis(5);
+    private static final Duration DEFAULT_RETRY_SLOW_BACKOFF = Duration.ofMillis(50);
+    private static final Duration DEFAULT_RETRY_MAX_BACKOFF = Duration.ofSeconds(5);
+    private static final int DEFAULT_RETRY_BUDGET = 100;
+    private static final QueryStatsCollectionMode DEFAULT_QUERY_STATS_MODE = QueryStatsCollectionMode.NONE;
+    private static final int DEFAULT_QUERY_STATS_SAMPLE_PERCENT = 100;
+    private static final Duration DEFAULT_SLOW_QUERY_THRESHOLD = Duration.ZERO;
+    private static final Duration DEFAULT_SLOW_SCHEME_QUERY_THRESHOLD = Duration.ZERO;
+    private static final int DEFAULT_SLOW_QUERY_SAMPLE_PERCENT = 100;
+    private static final int DEFAULT_RESULT_CACHE_MAX_BYTES = 0;
+    private static final Duration DEFAULT_RESULT_CACHE_TTL = Duration.ofMinutes(1);
 
     private final Duration statementTimeout;
     private final boolean failOnTruncatedResult;
     private final Duration sessionTimeout;
     private final Duration deadlineTimeout;
     private final int statementCacheSize;
+    private final int preparedStatementCacheSize;
+    private final boolean batchAsTable;
+    private final int batchMaxRows;
+    private final int batchMaxBytes;
+    private final boolean scanQuery;
+    private final int streamMaxBufferedParts;
+    private final boolean inListAsParameter;
+    private final int bulkUpsertMaxRows;
+    private final int bulkUpsertMaxBytes;
+    private final int bulkUpsertConcurrency;
+    private final Duration stickySessionMaxIdleTime;
+    private final int stickySessionMaxStatements;
+    private final boolean lazyBeginTransaction;
+    private final int retryMaxRetries;
+    private final Duration retryFastBackoff;
+    private final Duration retrySlowBackoff;
+    private final Duration retryMaxBackoff;
+    private final int retryBudget;
+    private final YdbMetrics metrics;
+    private final QueryStatsCollectionMode queryStatsMode;
+    private final int queryStatsSamplePercent;
+    private final YdbQueryStatsListener queryStatsListener;
+    private final Duration slowQueryThreshold;
+    private final Duration slowSchemeQueryThreshold;
+    private final int slowQuerySamplePercent;
+    private final YdbSlowQueryListener slowQueryListener;
+    private final YdbTracer tracer;
+    private final int resultCacheMaxBytes;
+    private final Duration resultCacheTtl;
 
     public OperationsConfig(OptionExtractor optionExtractor) {
         this.statementTimeout = optionExtractor.extractOrDefault(ConnectionFactoryOptions.STATEMENT_TIMEOUT,
@@ -48,6 +109,57 @@ public class OperationsConfig {
                 DEFAULT_DEADLINE_TIMEOUT);
         this.statementCacheSize = optionExtractor.extractOrDefault(OperationOptions.STATEMENT_CACHE_SIZE,
                 DEFAULT_STATEMENT_CACHE_SIZE);
+        this.preparedStatementCacheSize = optionExtractor.extractOrDefault(
+                OperationOptions.PREPARED_STATEMENT_CACHE_SIZE, DEFAULT_PREPARED_STATEMENT_CACHE_SIZE);
+        this.batchAsTable = optionExtractor.extractOrDefault(OperationOptions.BATCH_AS_TABLE, DEFAULT_BATCH_AS_TABLE);
+        this.batchMaxRows = optionExtractor.extractOrDefault(OperationOptions.BATCH_MAX_ROWS, DEFAULT_BATCH_MAX_ROWS);
+        this.batchMaxBytes = optionExtractor.extractOrDefault(OperationOptions.BATCH_MAX_BYTES,
+                DEFAULT_BATCH_MAX_BYTES);
+        this.scanQuery = optionExtractor.extractOrDefault(OperationOptions.SCAN_QUERY, DEFAULT_SCAN_QUERY);
+        this.streamMaxBufferedParts = optionExtractor.extractOrDefault(OperationOptions.STREAM_MAX_BUFFERED_PARTS,
+                DEFAULT_STREAM_MAX_BUFFERED_PARTS);
+        this.inListAsParameter = optionExtractor.extractOrDefault(OperationOptions.IN_LIST_AS_PARAMETER,
+                DEFAULT_IN_LIST_AS_PARAMETER);
+        this.bulkUpsertMaxRows = optionExtractor.extractOrDefault(OperationOptions.BULK_UPSERT_MAX_ROWS,
+                DEFAULT_BULK_UPSERT_MAX_ROWS);
+        this.bulkUpsertMaxBytes = optionExtractor.extractOrDefault(OperationOptions.BULK_UPSERT_MAX_BYTES,
+                DEFAULT_BULK_UPSERT_MAX_BYTES);
+        this.bulkUpsertConcurrency = optionExtractor.extractOrDefault(OperationOptions.BULK_UPSERT_CONCURRENCY,
+                DEFAULT_BULK_UPSERT_CONCURRENCY);
+        this.stickySessionMaxIdleTime = optionExtractor.extractOrDefault(
+                OperationOptions.STICKY_SESSION_MAX_IDLE_TIME, DEFAULT_STICKY_SESSION_MAX_IDLE_TIME);
+        this.stickySessionMaxStatements = optionExtractor.extractOrDefault(
+                OperationOptions.STICKY_SESSION_MAX_STATEMENTS, DEFAULT_STICKY_SESSION_MAX_STATEMENTS);
+        this.lazyBeginTransaction = optionExtractor.extractOrDefault(OperationOptions.LAZY_BEGIN_TRANSACTION,
+                DEFAULT_LAZY_BEGIN_TRANSACTION);
+        this.retryMaxRetries = optionExtractor.extractOrDefault(OperationOptions.RETRY_MAX_RETRIES,
+                DEFAULT_RETRY_MAX_RETRIES);
+        this.retryFastBackoff = optionExtractor.extractOrDefault(OperationOptions.RETRY_FAST_BACKOFF,
+                DEFAULT_RETRY_FAST_BACKOFF);
+        this.retrySlowBackoff = optionExtractor.extractOrDefault(OperationOptions.RETRY_SLOW_BACKOFF,
+                DEFAULT_RETRY_SLOW_BACKOFF);
+        this.retryMaxBackoff = optionExtractor.extractOrDefault(OperationOptions.RETRY_MAX_BACKOFF,
+                DEFAULT_RETRY_MAX_BACKOFF);
+        this.retryBudget = optionExtractor.extractOrDefault(OperationOptions.RETRY_BUDGET, DEFAULT_RETRY_BUDGET);
+        this.metrics = optionExtractor.extractOrDefault(OperationOptions.METRICS, null);
+        this.queryStatsMode = optionExtractor.extractOrDefault(OperationOptions.QUERY_STATS_MODE,
+                DEFAULT_QUERY_STATS_MODE);
+        this.queryStatsSamplePercent = optionExtractor.extractOrDefault(OperationOptions.QUERY_STATS_SAMPLE_PERCENT,
+                DEFAULT_QUERY_STATS_SAMPLE_PERCENT);
+        this.queryStatsListener = optionExtractor.extractOrDefault(OperationOptions.QUERY_STATS_LISTENER, null);
+        this.slowQueryThreshold = optionExtractor.extractOrDefault(OperationOptions.SLOW_QUERY_THRESHOLD,
+                DEFAULT_SLOW_QUERY_THRESHOLD);
+        this.slowSchemeQueryThreshold = optionExtractor.extractOrDefault(OperationOptions.SLOW_SCHEME_QUERY_THRESHOLD,
+                DEFAULT_SLOW_SCHEME_QUERY_THRESHOLD);
+        this.slowQuerySamplePercent = optionExtractor.extractOrDefault(OperationOptions.SLOW_QUERY_SAMPLE_PERCENT,
+                DEFAULT_SLOW_QUERY_SAMPLE_PERCENT);
+        this.slowQueryListener = optionExtractor.extractOrDefault(OperationOptions.SLOW_QUERY_LISTENER,
+                YdbSlowQueryLog.LOGGING_LISTENER);
+        this.tracer = optionExtractor.extractOrDefault(OperationOptions.TRACER, null);
+        this.resultCacheMaxBytes = optionExtractor.extractOrDefault(OperationOptions.RESULT_CACHE_MAX_BYTES,
+                DEFAULT_RESULT_CACHE_MAX_BYTES);
+        this.resultCacheTtl = optionExtractor.extractOrDefault(OperationOptions.RESULT_CACHE_TTL,
+                DEFAULT_RESULT_CACHE_TTL);
     }
 
     public static OperationsConfig defaultConfig() {
@@ -73,4 +185,154 @@ public class OperationsConfig {
     public int getStatementCacheSize() {
         return statementCacheSize;
     }
+
+    public int getPreparedStatementCacheSize() {
+        return preparedStatementCacheSize;
+    }
+
+    public boolean isBatchAsTable() {
+        return batchAsTable;
+    }
+
+    public int getBatchMaxRows() {
+        return batchMaxRows;
+    }
+
+    public int getBatchMaxBytes() {
+        return batchMaxBytes;
+    }
+
+    public boolean isScanQuery() {
+        return scanQuery;
+    }
+
+    public int getStreamMaxBufferedParts() {
+        return streamMaxBufferedParts;
+    }
+
+    public boolean isInListAsParameter() {
+        return inListAsParameter;
+    }
+
+    public int getBulkUpsertMaxRows() {
+        return bulkUpsertMaxRows;
+    }
+
+    public int getBulkUpsertMaxBytes() {
+        return bulkUpsertMaxBytes;
+    }
+
+    public int getBulkUpsertConcurrency() {
+        return bulkUpsertConcurrency;
+    }
+
+    public Duration getStickySessionMaxIdleTime() {
+        return stickySessionMaxIdleTime;
+    }
+
+    public int getStickySessionMaxStatements() {
+        return stickySessionMaxStatements;
+    }
+
+    public boolean isLazyBeginTransaction() {
+        return lazyBeginTransaction;
+    }
+
+    public int getRetryMaxRetries() {
+        return retryMaxRetries;
+    }
+
+    public Duration getRetryFastBackoff() {
+        return retryFastBackoff;
+    }
+
+    public Duration getRetrySlowBackoff() {
+        return retrySlowBackoff;
+    }
+
+    public Duration getRetryMaxBackoff() {
+        return retryMaxBackoff;
+    }
+
+    public int getRetryBudget() {
+        return retryBudget;
+    }
+
+    /**
+     * @return metrics of the driver or null if nothing is measured
+     */
+    @Nullable
+    public YdbMetrics getMetrics() {
+        return metrics;
+    }
+
+    public QueryStatsCollectionMode getQueryStatsMode() {
+        return queryStatsMode;
+    }
+
+    public int getQueryStatsSamplePercent() {
+        return queryStatsSamplePercent;
+    }
+
+    /**
+     * @return listener of the collected statistics or null if there is no listener
+     */
+    @Nullable
+    public YdbQueryStatsListener getQueryStatsListener() {
+        return queryStatsListener;
+    }
+
+    public Duration getSlowQueryThreshold() {
+        return slowQueryThreshold;
+    }
+
+    public Duration getSlowSchemeQueryThreshold() {
+        return slowSchemeQueryThreshold;
+    }
+
+    public int getSlowQuerySamplePercent() {
+        return slowQuerySamplePercent;
+    }
+
+    public YdbSlowQueryListener getSlowQueryListener() {
+        return slowQueryListener;
+    }
+
+    /**
+     * @return tracer of the driver or null if nothing is traced
+     */
+    @Nullable
+    public YdbTracer getTracer() {
+        return tracer;
+    }
+
+    public int getResultCacheMaxBytes() {
+        return resultCacheMaxBytes;
+    }
+
+    public Duration getResultCacheTtl() {
+        return resultCacheTtl;
+    }
+
+    public boolean isResultCache() {
+        return resultCacheMaxBytes > 0 && isPositive(resultCacheTtl);
+    }
+
+    public boolean isSlowQueryLog() {
+        return slowQuerySamplePercent > 0 && (isPositive(slowQueryThreshold) || isPositive(slowSchemeQueryThreshold));
+    }
+
+    public boolean isQueryStats() {
+        return queryStatsMode != QueryStatsCollectionMode.NONE
+                && queryStatsMode != QueryStatsCollectionMode.UNSPECIFIED
+                && queryStatsSamplePercent > 0;
+    }
+
+    public boolean isStickySession() {
+        return isPositive(stickySessionMaxIdleTime);
+    }
+
+    private static boolean isPositive(Duration duration) {
+        return !duration.isZero() && !duration.isNegative();
+    }
 }
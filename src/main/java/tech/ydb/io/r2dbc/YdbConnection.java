@@ -19,25 +19,41 @@ package tech.ydb.io.r2dbc;
 import com.google.common.annotations.VisibleForTesting;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.IsolationLevel;
+import io.r2dbc.spi.Row;
 import io.r2dbc.spi.TransactionDefinition;
 import io.r2dbc.spi.ValidationDepth;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.annotation.Nullable;
+import tech.ydb.io.r2dbc.metrics.YdbMetrics;
+import tech.ydb.io.r2dbc.metrics.YdbMetricsRecorder;
 import tech.ydb.io.r2dbc.query.OperationType;
 import tech.ydb.io.r2dbc.query.YdbQuery;
+import tech.ydb.io.r2dbc.settings.YdbReadTableSettings;
 import tech.ydb.io.r2dbc.settings.YdbTxSettings;
 import tech.ydb.io.r2dbc.state.NextStateResult;
 import tech.ydb.io.r2dbc.result.YdbResult;
+import tech.ydb.io.r2dbc.result.YdbRow;
+import tech.ydb.io.r2dbc.retry.YdbRetryExecutor;
 import tech.ydb.io.r2dbc.state.CloseState;
+import tech.ydb.io.r2dbc.state.InsideTransactionState;
 import tech.ydb.io.r2dbc.state.YdbConnectionState;
+import tech.ydb.io.r2dbc.statement.YdbBulkUpsert;
 import tech.ydb.io.r2dbc.statement.YdbDMLStatement;
 import tech.ydb.io.r2dbc.statement.YdbDDLStatement;
+import tech.ydb.io.r2dbc.statement.YdbPipeline;
 import tech.ydb.io.r2dbc.statement.YdbStatement;
+import tech.ydb.io.r2dbc.tracing.YdbTracer;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.values.ListValue;
 
 /**
  * @author Egor Kuleshov
@@ -52,14 +68,67 @@ public class YdbConnection implements Connection {
     }
 
     public Flux<YdbResult> executeDataQuery(String yql, Params params, List<OperationType> operationTypes) {
-        return ydbConnectionState
+        return YdbMetricsRecorder.inFlight(ydbConnectionState
                 .executeDataQuery(yql, params, operationTypes)
                 .doOnSuccess(fluxSessionResult -> updateState(fluxSessionResult.getNextState()))
-                .flatMapMany(NextStateResult::getResult);
+                .flatMapMany(NextStateResult::getResult), ydbContext.getMetrics());
+    }
+
+    /**
+     * Execute the data query and commit the open transaction with it, without a separate commit request.
+     */
+    public Flux<YdbResult> executeDataQueryAndCommit(String yql, Params params, List<OperationType> operationTypes) {
+        return YdbMetricsRecorder.inFlight(ydbConnectionState
+                .executeDataQueryAndCommit(yql, params, operationTypes)
+                .doOnSuccess(fluxSessionResult -> updateState(fluxSessionResult.getNextState()))
+                .flatMapMany(NextStateResult::getResult), ydbContext.getMetrics());
     }
 
     public Flux<YdbResult> executeSchemeQuery(String yql) {
-        return ydbConnectionState.executeSchemeQuery(yql);
+        return YdbMetricsRecorder.inFlight(ydbConnectionState.executeSchemeQuery(yql), ydbContext.getMetrics());
+    }
+
+    public Flux<YdbResult> executeScanQuery(String yql, Params params) {
+        return YdbMetricsRecorder.inFlight(ydbConnectionState.executeScanQuery(yql, params), ydbContext.getMetrics());
+    }
+
+    /**
+     * Read the whole table with the ReadTable RPC, rows are emitted as the result set parts arrive.
+     *
+     * @param table path to the table
+     * @return rows of the table
+     */
+    public Flux<Row> readTable(String table) {
+        return readTable(table, new YdbReadTableSettings());
+    }
+
+    /**
+     * Read the table with the ReadTable RPC, rows are emitted as the result set parts arrive.
+     * The read is not a part of the open transaction. Rows are materialized, so they stay valid after they are emitted.
+     *
+     * @param table path to the table
+     * @param settings columns, key range, order and partition concurrency of the read
+     * @return rows of the table
+     */
+    public Flux<Row> readTable(String table, YdbReadTableSettings settings) {
+        return YdbResult.ofStream(ydbConnectionState.executeReadTable(table, settings))
+                .map((row, rowMetadata) -> ((YdbRow) row).materialize());
+    }
+
+    public Mono<Void> executeBulkUpsert(String table, ListValue rows) {
+        return ydbConnectionState.executeBulkUpsert(table, rows);
+    }
+
+    /**
+     * Upsert the rows to the table through the BulkUpsert RPC.
+     * Bulk upsert is not transactional, rows are applied independently of the current transaction.
+     *
+     * @param table path to the table
+     * @param rows rows mapping column names to values
+     * @return number of upserted rows
+     */
+    public Mono<Long> bulkUpsert(String table, Publisher<? extends Map<String, ?>> rows) {
+        return new YdbBulkUpsert(this, table).execute(rows);
     }
 
     @Override
@@ -104,11 +173,51 @@ public class YdbConnection implements Connection {
                 .then();
     }
 
+    /**
+     * Execute the unit of work in a transaction and commit it. When retries are enabled and the unit of work
+     * or the commit fails with a transient status, the transaction is rolled back and the whole unit of work
+     * is executed again in a new transaction.
+     *
+     * @param work statements of the transaction, subscribed again on each retry
+     * @return result of the unit of work after the commit
+     */
+    public <T> Mono<T> inTransaction(Function<YdbConnection, Mono<T>> work) {
+        Mono<T> unitOfWork = Mono.defer(() -> beginTransaction()
+                .then(Mono.defer(() -> work.apply(this)))
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(result -> commitTransaction().then(Mono.justOrEmpty(result)))
+                .onErrorResume(error -> rollbackOrDiscard().then(Mono.error(error))));
+
+        YdbRetryExecutor retryExecutor = ydbContext.getRetryExecutor();
+
+        return retryExecutor == null ? unitOfWork : retryExecutor.retry(unitOfWork, false);
+    }
+
+    /**
+     * Roll back the transaction, leave it when the rollback fails so the next transaction gets a new session.
+     */
+    private Mono<Void> rollbackOrDiscard() {
+        return rollbackTransaction()
+                .onErrorResume(error -> Mono.fromRunnable(() -> {
+                    if (ydbConnectionState instanceof InsideTransactionState inside) {
+                        updateState(inside.discardTransaction(), YdbMetrics.TransactionOutcome.FAILURE);
+                    }
+                }));
+    }
+
     @Override
     public YdbBatch createBatch() {
         return new YdbBatch(this, ydbContext);
     }
 
+    /**
+     * @return pipeline to execute several statements with fewer round trips
+     */
+    public YdbPipeline createPipeline() {
+        return new YdbPipeline(this);
+    }
+
     @Override
     public Mono<Void> createSavepoint(String name) {
         throw new UnsupportedOperationException("YDB R2DBC driver is unsupported savepoint");
@@ -150,7 +259,7 @@ public class YdbConnection implements Connection {
     public Mono<Void> rollbackTransaction() {
         return ydbConnectionState
                 .rollbackTransaction()
-                .doOnSuccess(this::updateState)
+                .doOnSuccess(state -> updateState(state, YdbMetrics.TransactionOutcome.ROLLBACK))
                 .then();
     }
 
@@ -190,6 +299,18 @@ public class YdbConnection implements Connection {
         return ydbConnectionState.setReadOnly(readOnly);
     }
 
+    public OperationsConfig getOperationsConfig() {
+        return ydbContext.getOperationsConfig();
+    }
+
+    /**
+     * @return tracer of the driver or null if nothing is traced
+     */
+    @Nullable
+    public YdbTracer getTracer() {
+        return ydbContext.getTracer();
+    }
+
     @VisibleForTesting
     YdbConnectionState getCurrentState() {
         return ydbConnectionState;
@@ -202,6 +323,24 @@ public class YdbConnection implements Connection {
     }
 
     private void updateState(YdbConnectionState ydbConnectionState) {
+        updateState(ydbConnectionState, YdbMetrics.TransactionOutcome.COMMIT);
+    }
+
+    /**
+     * @param endOutcome outcome recorded to the metrics when the state leaves an open transaction
+     */
+    private void updateState(YdbConnectionState ydbConnectionState, YdbMetrics.TransactionOutcome endOutcome) {
+        YdbMetrics metrics = ydbContext.getMetrics();
+        if (metrics != null) {
+            boolean wasInside = this.ydbConnectionState instanceof InsideTransactionState;
+            boolean isInside = ydbConnectionState instanceof InsideTransactionState;
+            if (!wasInside && isInside) {
+                metrics.transaction(YdbMetrics.TransactionOutcome.BEGIN);
+            } else if (wasInside && !isInside) {
+                metrics.transaction(endOutcome);
+            }
+        }
+
         this.ydbConnectionState = ydbConnectionState;
     }
 }
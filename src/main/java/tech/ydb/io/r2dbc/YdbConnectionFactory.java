@@ -16,10 +16,16 @@
 
 package tech.ydb.io.r2dbc;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
 import io.r2dbc.spi.ConnectionFactory;
 import io.r2dbc.spi.ConnectionFactoryMetadata;
 import reactor.core.publisher.Mono;
 import tech.ydb.io.r2dbc.state.OutsideTransactionState;
+import tech.ydb.io.r2dbc.state.StickySession;
 
 /**
  * @author Kirill Kurdyukov
@@ -34,14 +40,60 @@ public final class YdbConnectionFactory implements ConnectionFactory {
 
     @Override
     public Mono<YdbConnection> create() {
-        return Mono.just(
-                new YdbConnection(
-                        ydbContext,
-                        new OutsideTransactionState(ydbContext,
-                                ydbContext.getDefaultYdbTxSettings(),
-                                ydbContext.getStatementTimeout())
-                )
-        );
+        return Mono.fromSupplier(() -> {
+            OperationsConfig operationsConfig = ydbContext.getOperationsConfig();
+            StickySession stickySession = operationsConfig.isStickySession()
+                    ? new StickySession(ydbContext,
+                            operationsConfig.getStickySessionMaxIdleTime(),
+                            operationsConfig.getStickySessionMaxStatements())
+                    : null;
+
+            return new YdbConnection(
+                    ydbContext,
+                    new OutsideTransactionState(ydbContext,
+                            ydbContext.getDefaultYdbTxSettings(),
+                            ydbContext.getStatementTimeout(),
+                            stickySession)
+            );
+        });
+    }
+
+    /**
+     * Warm up the session pool and prepare the queries without parameters on its sessions,
+     * so the first requests after the start do not pay for creating sessions and compiling queries.
+     *
+     * @param sqls queries without parameters
+     * @return completes when the warm-up is done
+     */
+    public Mono<Void> warmUp(List<String> sqls) {
+        Map<String, List<?>> sqlParameters = new LinkedHashMap<>();
+        for (String sql : sqls) {
+            sqlParameters.put(sql, List.of());
+        }
+
+        return warmUp(sqlParameters);
+    }
+
+    /**
+     * Warm up the session pool and prepare the queries on its sessions. The sample values type the positional
+     * parameters of the query, queries are compiled for these types.
+     *
+     * @param sqlParameters sql of the queries with the sample values of the positional parameters
+     * @return completes when the warm-up is done
+     */
+    public Mono<Void> warmUp(Map<String, List<?>> sqlParameters) {
+        return ydbContext.warmUp(sqlParameters);
+    }
+
+    /**
+     * Execute the unit of work in a transaction of a new connection, see {@link YdbConnection#inTransaction}.
+     * The connection is closed after the commit or the last failed retry.
+     *
+     * @param work statements of the transaction, subscribed again on each retry
+     * @return result of the unit of work after the commit
+     */
+    public <T> Mono<T> inTransaction(Function<YdbConnection, Mono<T>> work) {
+        return Mono.usingWhen(create(), connection -> connection.inTransaction(work), YdbConnection::close);
     }
 
     @Override
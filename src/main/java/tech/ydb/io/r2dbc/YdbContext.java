@@ -17,12 +17,23 @@
 package tech.ydb.io.r2dbc;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
+import com.google.common.base.Throwables;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import io.r2dbc.spi.ConnectionFactoryOptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.Nullable;
 import tech.ydb.auth.TokenAuthProvider;
 import tech.ydb.auth.iam.CloudAuthHelper;
 import tech.ydb.core.Result;
@@ -31,7 +42,14 @@ import tech.ydb.core.grpc.BalancingSettings;
 import tech.ydb.core.grpc.GrpcTransport;
 import tech.ydb.core.grpc.GrpcTransportBuilder;
 import tech.ydb.io.r2dbc.options.ClientOptions;
+import tech.ydb.io.r2dbc.metrics.YdbMetrics;
+import tech.ydb.io.r2dbc.metrics.YdbSlowQueryLog;
 import tech.ydb.io.r2dbc.options.ConnectionOptions;
+import tech.ydb.io.r2dbc.retry.YdbRetryBudget;
+import tech.ydb.io.r2dbc.retry.YdbRetryExecutor;
+import tech.ydb.io.r2dbc.statement.binding.Binding;
+import tech.ydb.io.r2dbc.tracing.YdbTracer;
+import tech.ydb.io.r2dbc.util.ResultExtractor;
 import tech.ydb.io.r2dbc.util.YdbLookup;
 import tech.ydb.io.r2dbc.query.YdbQuery;
 import tech.ydb.io.r2dbc.query.YdbSqlParser;
@@ -39,6 +57,7 @@ import tech.ydb.io.r2dbc.settings.YdbTxSettings;
 import tech.ydb.table.Session;
 import tech.ydb.table.impl.PooledTableClient;
 import tech.ydb.table.rpc.grpc.GrpcTableRpc;
+import tech.ydb.table.settings.PrepareDataQuerySettings;
 
 /**
  * @author Egor Kuleshov
@@ -52,6 +71,10 @@ public class YdbContext {
     private final OperationsConfig operationsConfig;
     private final YdbTxSettings defaultYdbTxSettings;
     private final Cache<String, YdbQuery> queriesCache;
+    private final YdbPreparedQueryCache preparedQueryCache;
+    private final YdbRetryExecutor retryExecutor;
+    private final YdbSlowQueryLog slowQueryLog;
+    private final YdbResultCache resultCache;
 
     public YdbContext(OptionExtractor optionExtractor) {
         this(buildClient(buildGrpcTransport(optionExtractor), optionExtractor), new OperationsConfig(optionExtractor));
@@ -62,13 +85,51 @@ public class YdbContext {
         this.tableClient = tableClient;
         this.operationsConfig = operationsConfig;
         this.defaultYdbTxSettings = YdbTxSettings.defaultSettings();
+        YdbMetrics metrics = operationsConfig.getMetrics();
         if (operationsConfig.getStatementCacheSize() > 0) {
-            this.queriesCache = CacheBuilder.newBuilder()
+            CacheBuilder<Object, Object> queriesCacheBuilder = CacheBuilder.newBuilder()
                     .maximumSize(operationsConfig.getStatementCacheSize())
-                    .build();
+                    .concurrencyLevel(Runtime.getRuntime().availableProcessors())
+                    .recordStats();
+            this.queriesCache = metrics == null
+                    ? queriesCacheBuilder.build()
+                    : queriesCacheBuilder.<String, YdbQuery>removalListener(notification -> {
+                        if (notification.wasEvicted()) {
+                            metrics.cacheEviction(YdbMetrics.CacheType.STATEMENT);
+                        }
+                    }).build();
         } else {
             this.queriesCache = null;
         }
+        if (operationsConfig.getPreparedStatementCacheSize() > 0) {
+            this.preparedQueryCache = new YdbPreparedQueryCache(operationsConfig.getPreparedStatementCacheSize(),
+                    metrics);
+        } else {
+            this.preparedQueryCache = null;
+        }
+        if (operationsConfig.getRetryMaxRetries() > 0) {
+            this.retryExecutor = new YdbRetryExecutor(operationsConfig.getRetryMaxRetries(),
+                    operationsConfig.getRetryFastBackoff(),
+                    operationsConfig.getRetrySlowBackoff(),
+                    operationsConfig.getRetryMaxBackoff(),
+                    new YdbRetryBudget(operationsConfig.getRetryBudget()));
+        } else {
+            this.retryExecutor = null;
+        }
+        if (operationsConfig.isSlowQueryLog()) {
+            this.slowQueryLog = new YdbSlowQueryLog(operationsConfig.getSlowQueryThreshold(),
+                    operationsConfig.getSlowSchemeQueryThreshold(),
+                    operationsConfig.getSlowQuerySamplePercent(),
+                    operationsConfig.getSlowQueryListener());
+        } else {
+            this.slowQueryLog = null;
+        }
+        if (operationsConfig.isResultCache()) {
+            this.resultCache = new YdbResultCache(operationsConfig.getResultCacheMaxBytes(),
+                    operationsConfig.getResultCacheTtl(), metrics);
+        } else {
+            this.resultCache = null;
+        }
     }
 
     public static GrpcTransport buildGrpcTransport(OptionExtractor optionExtractor) {
@@ -164,21 +225,156 @@ public class YdbContext {
         return operationsConfig.getDeadlineTimeout();
     }
 
+    /**
+     * @return executor of retries after transient statuses or null if retries are disabled
+     */
+    @Nullable
+    public YdbRetryExecutor getRetryExecutor() {
+        return retryExecutor;
+    }
+
+    /**
+     * @return metrics of the driver or null if nothing is measured
+     */
+    @Nullable
+    public YdbMetrics getMetrics() {
+        return operationsConfig.getMetrics();
+    }
+
+    /**
+     * @return tracer of the driver or null if nothing is traced
+     */
+    @Nullable
+    public YdbTracer getTracer() {
+        return operationsConfig.getTracer();
+    }
+
+    /**
+     * @return log of the slow queries or null if it is disabled
+     */
+    @Nullable
+    public YdbSlowQueryLog getSlowQueryLog() {
+        return slowQueryLog;
+    }
+
+    /**
+     * @return cache of server-side prepared queries or null if preparing is disabled
+     */
+    @Nullable
+    public YdbPreparedQueryCache getPreparedQueryCache() {
+        return preparedQueryCache;
+    }
+
+    /**
+     * @return cache of the read-only result sets or null if the cache is disabled
+     */
+    @Nullable
+    public YdbResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * @return hit ratio, miss and eviction statistics of the result cache or null if the cache is disabled
+     */
+    @Nullable
+    public CacheStats getResultCacheStats() {
+        return resultCache == null ? null : resultCache.stats();
+    }
+
+    /**
+     * @return hit, miss and eviction statistics of the statement cache or null if the cache is disabled
+     */
+    @Nullable
+    public CacheStats getStatementCacheStats() {
+        return queriesCache == null ? null : queriesCache.stats();
+    }
+
     public YdbTxSettings getDefaultYdbTxSettings() {
         return defaultYdbTxSettings;
     }
 
+    /**
+     * Parse the sql or take it from the statement cache. The cache is keyed by the sql as written, so
+     * {@code IN (?, ...)} lists of different lengths are separate entries: the positional parameters of a parsed
+     * query are bound by the index of the placeholder, which depends on the length.
+     */
     public YdbQuery fetchYdbQuery(String sql) {
         if (queriesCache == null) {
-            return YdbSqlParser.parse(sql);
+            return YdbSqlParser.parse(sql, operationsConfig.isInListAsParameter());
+        }
+
+        try {
+            // concurrent callers of the same sql wait for a single parse, only the parsing caller is a miss
+            boolean[] parsed = new boolean[1];
+            YdbQuery query = queriesCache.get(sql, () -> {
+                parsed[0] = true;
+
+                return YdbSqlParser.parse(sql, operationsConfig.isInListAsParameter());
+            });
+            YdbMetrics metrics = operationsConfig.getMetrics();
+            if (metrics != null) {
+                if (parsed[0]) {
+                    metrics.cacheMiss(YdbMetrics.CacheType.STATEMENT);
+                } else {
+                    metrics.cacheHit(YdbMetrics.CacheType.STATEMENT);
+                }
+            }
+
+            return query;
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Create the minimum number of sessions of the pool, at least one, and prepare the queries on each of them.
+     * Queries are parsed into the statement cache, positional parameters are typed by the sample values.
+     *
+     * @param sqlParameters sql of the queries with the sample values of the positional parameters
+     * @return completes when all the queries are prepared and the sessions are returned to the pool
+     */
+    public Mono<Void> warmUp(Map<String, List<?>> sqlParameters) {
+        return Mono.defer(() -> {
+            List<String> yqls = new ArrayList<>(sqlParameters.size());
+            for (Map.Entry<String, List<?>> sqlParameter : sqlParameters.entrySet()) {
+                YdbQuery query = fetchYdbQuery(sqlParameter.getKey());
+                Binding binding = new Binding(query.getParameterNames());
+                for (int index = 0; index < sqlParameter.getValue().size(); index++) {
+                    binding.bind(index, sqlParameter.getValue().get(index));
+                }
+                binding.validate();
+                yqls.add(query.getYqlQuery(binding));
+            }
+
+            int sessionCount = Math.max(1, tableClient.sessionPoolStats().getMinSize());
+            // all sessions are held until the end, so the pool does not hand out the same session twice
+            List<Session> sessions = Collections.synchronizedList(new ArrayList<>(sessionCount));
+
+            return Flux.range(0, sessionCount)
+                    .flatMap(ignored -> Mono.fromFuture(getSession())
+                            .flatMap(sessionResult -> ResultExtractor.extract(sessionResult, "Error creating session"))
+                            .doOnNext(sessions::add), sessionCount)
+                    .flatMap(session -> Flux.fromIterable(yqls)
+                            .concatMap(yql -> Mono.fromFuture(prepareDataQuery(session, yql))
+                                    .flatMap(result -> ResultExtractor.extract(result.getStatus()))))
+                    .then()
+                    .doFinally(signal -> sessions.forEach(Session::close));
+        });
+    }
+
+    private CompletableFuture<? extends Result<?>> prepareDataQuery(Session session, String yql) {
+        PrepareDataQuerySettings settings = new PrepareDataQuerySettings();
+        Duration statementTimeout = getStatementTimeout();
+        if (!statementTimeout.isZero() && !statementTimeout.isNegative()) {
+            settings.setOperationTimeout(statementTimeout);
+            settings.setTimeout(statementTimeout.plusSeconds(1));
         }
 
-        YdbQuery cached = queriesCache.getIfPresent(sql);
-        if (cached == null) {
-            cached = YdbSqlParser.parse(sql);
-            queriesCache.put(sql, cached);
+        if (preparedQueryCache != null) {
+            return preparedQueryCache.prepareDataQuery(session, yql, settings);
         }
 
-        return cached;
+        return session.prepareDataQuery(yql, settings.keepInQueryCache());
     }
 }
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import reactor.util.annotation.Nullable;
+import tech.ydb.core.Issue;
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.io.r2dbc.metrics.YdbMetrics;
+import tech.ydb.table.Session;
+import tech.ydb.table.query.DataQuery;
+import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.settings.ExecuteDataQuerySettings;
+import tech.ydb.table.settings.PrepareDataQuerySettings;
+import tech.ydb.table.transaction.TxControl;
+
+/**
+ * Cache of server-side prepared data queries.
+ * Prepared queries are bound to the session, so handles are kept in a bounded LRU per session id
+ * and keyed by the final yql text, which already contains the DECLARE prelude of the parameter types.
+ *
+ * @author Egor Kuleshov
+ */
+public class YdbPreparedQueryCache {
+    private static final long SESSION_EXPIRE_AFTER_ACCESS_MINUTES = 5;
+    private static final String QUERY_NOT_FOUND = "query not found";
+
+    private final Cache<String, Cache<String, DataQuery>> sessionQueries;
+    private final int maxQueriesPerSession;
+    private final YdbMetrics metrics;
+
+    public YdbPreparedQueryCache(int maxQueriesPerSession) {
+        this(maxQueriesPerSession, null);
+    }
+
+    public YdbPreparedQueryCache(int maxQueriesPerSession, @Nullable YdbMetrics metrics) {
+        this.maxQueriesPerSession = maxQueriesPerSession;
+        this.metrics = metrics;
+        this.sessionQueries = CacheBuilder.newBuilder()
+                .expireAfterAccess(SESSION_EXPIRE_AFTER_ACCESS_MINUTES, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Execute the data query through the prepared handle of the session, prepare it on the first call.
+     * Sessions without id are executed as plain text queries.
+     */
+    public CompletableFuture<Result<DataQueryResult>> executeDataQuery(Session session,
+                                                                       String yql,
+                                                                       TxControl<?> txControl,
+                                                                       Params params,
+                                                                       ExecuteDataQuerySettings settings) {
+        String sessionId = session.getId();
+        if (sessionId == null) {
+            return session.executeDataQuery(yql, txControl, params, settings);
+        }
+
+        Cache<String, DataQuery> queries = getSessionQueries(sessionId);
+        DataQuery dataQuery = queries.getIfPresent(yql);
+        if (metrics != null) {
+            if (dataQuery == null) {
+                metrics.cacheMiss(YdbMetrics.CacheType.PREPARED_QUERY);
+            } else {
+                metrics.cacheHit(YdbMetrics.CacheType.PREPARED_QUERY);
+            }
+        }
+        if (dataQuery == null) {
+            return prepareAndExecute(session, queries, yql, txControl, params, settings);
+        }
+
+        return dataQuery.execute(txControl, params, settings)
+                .thenCompose(result -> {
+                    if (isQueryNotFound(result.getStatus(), txControl)) {
+                        // server evicted the prepared query, prepare it again
+                        queries.invalidate(yql);
+
+                        return prepareAndExecute(session, queries, yql, txControl, params, settings);
+                    }
+
+                    return CompletableFuture.completedFuture(checkSession(sessionId, result));
+                });
+    }
+
+    @VisibleForTesting
+    long size(String sessionId) {
+        Cache<String, DataQuery> queries = sessionQueries.getIfPresent(sessionId);
+
+        return queries == null ? 0 : queries.size();
+    }
+
+    /**
+     * Prepare the data query on the session and keep the handle, without executing it.
+     * Sessions without id are prepared on the server only.
+     */
+    public CompletableFuture<Result<DataQuery>> prepareDataQuery(Session session, String yql,
+                                                                 PrepareDataQuerySettings settings) {
+        String sessionId = session.getId();
+
+        return prepare(session, sessionId == null ? null : getSessionQueries(sessionId), yql, settings);
+    }
+
+    private CompletableFuture<Result<DataQueryResult>> prepareAndExecute(Session session,
+                                                                         Cache<String, DataQuery> queries,
+                                                                         String yql,
+                                                                         TxControl<?> txControl,
+                                                                         Params params,
+                                                                         ExecuteDataQuerySettings settings) {
+        PrepareDataQuerySettings prepareSettings = new PrepareDataQuerySettings();
+        settings.getOperationTimeout().ifPresent(prepareSettings::setOperationTimeout);
+        if (settings.getTimeoutDuration() != null) {
+            prepareSettings.setTimeout(settings.getTimeoutDuration());
+        }
+
+        return prepare(session, queries, yql, prepareSettings)
+                .thenCompose(prepared -> {
+                    if (!prepared.isSuccess()) {
+                        return CompletableFuture.completedFuture(Result.fail(prepared.getStatus()));
+                    }
+
+                    return prepared.getValue().execute(txControl, params, settings)
+                            .thenApply(result -> checkSession(session.getId(), result));
+                });
+    }
+
+    private CompletableFuture<Result<DataQuery>> prepare(Session session,
+                                                         @Nullable Cache<String, DataQuery> queries,
+                                                         String yql,
+                                                         PrepareDataQuerySettings settings) {
+        return session.prepareDataQuery(yql, settings.keepInQueryCache())
+                .thenApply(prepared -> {
+                    if (!prepared.isSuccess()) {
+                        return checkSession(session.getId(), prepared);
+                    }
+
+                    if (queries != null) {
+                        queries.put(yql, prepared.getValue());
+                    }
+
+                    return prepared;
+                });
+    }
+
+    /**
+     * NOT_FOUND is also returned for an unknown transaction, which is not fixed by preparing the query again.
+     * A query beginning a new transaction can miss only the prepared query.
+     */
+    private static boolean isQueryNotFound(Status status, TxControl<?> txControl) {
+        if (status.getCode() != StatusCode.NOT_FOUND) {
+            return false;
+        }
+
+        return !(txControl instanceof TxControl.TxId) || hasQueryNotFoundIssue(status.getIssues());
+    }
+
+    private static boolean hasQueryNotFoundIssue(Issue[] issues) {
+        for (Issue issue : issues) {
+            if (issue.getMessage().toLowerCase(Locale.ROOT).contains(QUERY_NOT_FOUND)
+                    || hasQueryNotFoundIssue(issue.getIssues())) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private <T> Result<T> checkSession(String sessionId, Result<T> result) {
+        StatusCode code = result.getStatus().getCode();
+        if (code == StatusCode.BAD_SESSION || code == StatusCode.SESSION_EXPIRED) {
+            sessionQueries.invalidate(sessionId);
+        }
+
+        return result;
+    }
+
+    private Cache<String, DataQuery> getSessionQueries(String sessionId) {
+        try {
+            return sessionQueries.get(sessionId, () -> {
+                CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+                        .maximumSize(maxQueriesPerSession);
+                if (metrics == null) {
+                    return builder.build();
+                }
+
+                return builder.<String, DataQuery>removalListener(notification -> {
+                    if (notification.wasEvicted()) {
+                        metrics.cacheEviction(YdbMetrics.CacheType.PREPARED_QUERY);
+                    }
+                }).build();
+            });
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
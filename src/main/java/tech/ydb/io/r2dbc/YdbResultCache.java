@@ -0,0 +1,188 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import reactor.util.annotation.Nullable;
+import tech.ydb.io.r2dbc.metrics.YdbMetrics;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+
+/**
+ * Cache of the result sets of read-only queries tolerating stale data, shared by the connections of a factory.
+ * Result sets are kept as immutable protobuf messages keyed by the query text and the parameter values,
+ * bounded by their serialized size with LRU eviction and expired after the time to live.
+ * Each hit gets its own readers, so the cached result sets are read concurrently.
+ *
+ * @author Egor Kuleshov
+ */
+public class YdbResultCache {
+    /**
+     * Entries larger than this part of the cache are not cached, they would evict most of it
+     */
+    private static final int MAX_ENTRY_PART = 4;
+
+    private final Cache<Key, List<ValueProtos.ResultSet>> results;
+    private final long maxEntryBytes;
+    @Nullable
+    private final YdbMetrics metrics;
+
+    public YdbResultCache(long maxBytes, Duration timeToLive, @Nullable YdbMetrics metrics) {
+        this.maxEntryBytes = maxBytes / MAX_ENTRY_PART;
+        this.metrics = metrics;
+        CacheBuilder<Key, List<ValueProtos.ResultSet>> weighted = CacheBuilder.newBuilder()
+                .expireAfterWrite(timeToLive.toNanos(), TimeUnit.NANOSECONDS)
+                .recordStats()
+                .maximumWeight(maxBytes)
+                .<Key, List<ValueProtos.ResultSet>>weigher((key, resultSets) ->
+                        (int) Math.min(Integer.MAX_VALUE, weight(key, resultSets)));
+        this.results = metrics == null
+                ? weighted.build()
+                : weighted.removalListener(notification -> {
+                    if (notification.wasEvicted()) {
+                        metrics.cacheEviction(YdbMetrics.CacheType.RESULT);
+                    }
+                }).build();
+    }
+
+    /**
+     * @return readers of the cached result sets or null if the query is not cached
+     */
+    @Nullable
+    public List<ResultSetReader> get(String yql, Params params) {
+        List<ValueProtos.ResultSet> resultSets = results.getIfPresent(new Key(yql, params.toPb()));
+        if (metrics != null) {
+            if (resultSets == null) {
+                metrics.cacheMiss(YdbMetrics.CacheType.RESULT);
+            } else {
+                metrics.cacheHit(YdbMetrics.CacheType.RESULT);
+            }
+        }
+
+        return resultSets == null ? null : readers(resultSets);
+    }
+
+    /**
+     * Copy the result sets of the query into the cache, the readers of the result are not consumed.
+     */
+    public void put(String yql, Params params, DataQueryResult dataQueryResult) {
+        List<ValueProtos.ResultSet> resultSets = new ArrayList<>(dataQueryResult.getResultSetCount());
+        for (int index = 0; index < dataQueryResult.getResultSetCount(); index++) {
+            resultSets.add(toProto(dataQueryResult.getResultSet(index)));
+        }
+
+        Key key = new Key(yql, params.toPb());
+        if (weight(key, resultSets) <= maxEntryBytes) {
+            results.put(key, resultSets);
+        }
+    }
+
+    /**
+     * @return hit, miss and eviction statistics of the cache
+     */
+    public CacheStats stats() {
+        return results.stats();
+    }
+
+    private static List<ResultSetReader> readers(List<ValueProtos.ResultSet> resultSets) {
+        List<ResultSetReader> readers = new ArrayList<>(resultSets.size());
+        for (ValueProtos.ResultSet resultSet : resultSets) {
+            readers.add(ProtoValueReaders.forResultSet(resultSet));
+        }
+
+        return readers;
+    }
+
+    private static ValueProtos.ResultSet toProto(ResultSetReader reader) {
+        ValueProtos.ResultSet.Builder resultSet = ValueProtos.ResultSet.newBuilder()
+                .setTruncated(reader.isTruncated());
+        int columnCount = reader.getColumnCount();
+        for (int column = 0; column < columnCount; column++) {
+            resultSet.addColumns(ValueProtos.Column.newBuilder()
+                    .setName(reader.getColumnName(column))
+                    .setType(reader.getColumnType(column).toPb()));
+        }
+        for (int row = 0; row < reader.getRowCount(); row++) {
+            reader.setRowIndex(row);
+            ValueProtos.Value.Builder items = resultSet.addRowsBuilder();
+            for (int column = 0; column < columnCount; column++) {
+                items.addItems(reader.getColumn(column).getValue().toPb());
+            }
+        }
+
+        return resultSet.build();
+    }
+
+    private static long weight(Key key, List<ValueProtos.ResultSet> resultSets) {
+        long weight = key.weight();
+        for (ValueProtos.ResultSet resultSet : resultSets) {
+            weight += resultSet.getSerializedSize();
+        }
+
+        return weight;
+    }
+
+    private static final class Key {
+        private final String yql;
+        private final Map<String, ValueProtos.TypedValue> params;
+        private final int hashCode;
+
+        private Key(String yql, Map<String, ValueProtos.TypedValue> params) {
+            this.yql = yql;
+            this.params = params;
+            this.hashCode = Objects.hash(yql, params);
+        }
+
+        private long weight() {
+            long weight = 2L * yql.length();
+            for (Map.Entry<String, ValueProtos.TypedValue> param : params.entrySet()) {
+                weight += 2L * param.getKey().length() + param.getValue().getSerializedSize();
+            }
+
+            return weight;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            Key key = (Key) o;
+            return yql.equals(key.yql) && params.equals(key.params);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.metrics;
+
+/**
+ * Metrics of the driver, passed with the {@code metrics} option of the connection factory.
+ * The methods map to Micrometer meters: phases to timers tagged by phase and outcome, in-flight statements
+ * to a gauge, cache and transaction events to counters tagged by cache and outcome.
+ * When the option is not set the driver does not call the metrics and does not measure anything.
+ * Implementations are called concurrently from the threads completing the requests and must be cheap.
+ *
+ * @author Egor Kuleshov
+ */
+public interface YdbMetrics {
+    /**
+     * Record the duration of a phase of an operation.
+     *
+     * @param phase measured phase
+     * @param nanos duration in nanoseconds
+     * @param success phase completed without an error
+     */
+    default void recordPhase(Phase phase, long nanos, boolean success) {
+    }
+
+    /**
+     * Statement started to execute on a connection.
+     */
+    default void statementStarted() {
+    }
+
+    /**
+     * Statement completed, failed or was cancelled.
+     */
+    default void statementFinished() {
+    }
+
+    default void cacheHit(CacheType cache) {
+    }
+
+    default void cacheMiss(CacheType cache) {
+    }
+
+    /**
+     * Entry was evicted from the cache because of its size or expiration.
+     */
+    default void cacheEviction(CacheType cache) {
+    }
+
+    /**
+     * Connection began or ended a transaction. A transaction begins when the connection gets its id,
+     * with the first statement when transactions begin lazily. Statements committing their own transaction
+     * outside of an open transaction are not counted.
+     */
+    default void transaction(TransactionOutcome outcome) {
+    }
+
+    enum Phase {
+        /**
+         * Acquiring a session from the pool
+         */
+        ACQUIRE,
+        /**
+         * Executing a data query on the server
+         */
+        EXECUTE,
+        /**
+         * Reading the rows of a result
+         */
+        DECODE,
+        /**
+         * Committing a transaction
+         */
+        COMMIT
+    }
+
+    enum CacheType {
+        /**
+         * Cache of parsed statements
+         */
+        STATEMENT,
+        /**
+         * Cache of server-side prepared queries
+         */
+        PREPARED_QUERY,
+        /**
+         * Cache of the result sets of read-only queries
+         */
+        RESULT
+    }
+
+    enum TransactionOutcome {
+        BEGIN,
+        COMMIT,
+        ROLLBACK,
+        /**
+         * Rollback failed and the transaction was left without ending it
+         */
+        FAILURE
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.metrics;
+
+import java.util.concurrent.CompletableFuture;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.annotation.Nullable;
+import tech.ydb.core.Result;
+
+/**
+ * Helpers measuring publishers and futures, the source is returned as is when the metrics are disabled.
+ *
+ * @author Egor Kuleshov
+ */
+public final class YdbMetricsRecorder {
+
+    private YdbMetricsRecorder() {
+    }
+
+    /**
+     * @return mono recording the time from the subscription to the completion as the phase
+     */
+    public static <T> Mono<T> timed(Mono<T> source, @Nullable YdbMetrics metrics, YdbMetrics.Phase phase) {
+        if (metrics == null) {
+            return source;
+        }
+
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+
+            return source.doFinally(signal -> metrics.recordPhase(phase, System.nanoTime() - start,
+                    signal == SignalType.ON_COMPLETE));
+        });
+    }
+
+    /**
+     * @return future recording the time from this call to the completion as the phase
+     */
+    public static <T> CompletableFuture<Result<T>> timed(CompletableFuture<Result<T>> source,
+                                                         @Nullable YdbMetrics metrics,
+                                                         YdbMetrics.Phase phase,
+                                                         long start) {
+        if (metrics == null) {
+            return source;
+        }
+
+        return source.whenComplete((result, error) -> metrics.recordPhase(phase, System.nanoTime() - start,
+                error == null && result.isSuccess()));
+    }
+
+    /**
+     * @return flux counted as an in-flight statement from the subscription to the termination
+     */
+    public static <T> Flux<T> inFlight(Flux<T> source, @Nullable YdbMetrics metrics) {
+        if (metrics == null) {
+            return source;
+        }
+
+        return source.doFirst(metrics::statementStarted)
+                .doFinally(signal -> metrics.statementFinished());
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.metrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import reactor.util.annotation.Nullable;
+
+/**
+ * Entry of the slow query log: a query executed longer than the threshold.
+ *
+ * @author Egor Kuleshov
+ */
+public final class YdbSlowQuery {
+    private final Kind kind;
+    private final String query;
+    private final Map<String, String> parameterTypes;
+    private final String sessionId;
+    @Nullable
+    private final String txId;
+    private final Duration elapsed;
+    private final List<Duration> phases;
+    private final List<Integer> rowCounts;
+    private final boolean success;
+
+    YdbSlowQuery(Kind kind,
+                 String query,
+                 Map<String, String> parameterTypes,
+                 String sessionId,
+                 @Nullable String txId,
+                 Duration elapsed,
+                 List<Duration> phases,
+                 List<Integer> rowCounts,
+                 boolean success) {
+        this.kind = kind;
+        this.query = query;
+        this.parameterTypes = parameterTypes;
+        this.sessionId = sessionId;
+        this.txId = txId;
+        this.elapsed = elapsed;
+        this.phases = phases;
+        this.rowCounts = rowCounts;
+        this.success = success;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return query text without the DECLARE prelude
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * @return types of the parameters by name, the values are not kept
+     */
+    public Map<String, String> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * @return id of the transaction of the query or null if the query was executed in its own transaction
+     */
+    @Nullable
+    public String getTxId() {
+        return txId;
+    }
+
+    /**
+     * @return time from sending the request to receiving the response
+     */
+    public Duration getElapsed() {
+        return elapsed;
+    }
+
+    /**
+     * @return durations of the query phases on the server, empty if the query statistics were not collected
+     */
+    public List<Duration> getPhases() {
+        return phases;
+    }
+
+    /**
+     * @return number of rows of each result set
+     */
+    public List<Integer> getRowCounts() {
+        return rowCounts;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    /**
+     * @return single line of key=value pairs
+     */
+    @Override
+    public String toString() {
+        return "kind=" + kind +
+                " elapsedMs=" + elapsed.toMillis() +
+                " success=" + success +
+                " session=" + sessionId +
+                " tx=" + txId +
+                " rows=" + rowCounts +
+                " phases=" + phases +
+                " params=" + parameterTypes +
+                " query=\"" + query.replace('\n', ' ').replace("\"", "\\\"") + '"';
+    }
+
+    public enum Kind {
+        DATA,
+        SCHEME
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.metrics;
+
+/**
+ * Receives the entries of the slow query log, passed with the {@code slowQueryListener} option.
+ * Called from the thread completing the request and must not block.
+ *
+ * @author Egor Kuleshov
+ */
+@FunctionalInterface
+public interface YdbSlowQueryListener {
+    void onSlowQuery(YdbSlowQuery slowQuery);
+}
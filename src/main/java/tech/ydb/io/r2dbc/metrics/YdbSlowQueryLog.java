@@ -0,0 +1,178 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import reactor.util.Logger;
+import reactor.util.Loggers;
+import tech.ydb.core.Result;
+import tech.ydb.io.r2dbc.util.Sampling;
+import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.query.stats.QueryPhaseStats;
+import tech.ydb.table.transaction.TxControl;
+import tech.ydb.table.values.Value;
+
+/**
+ * Log of the queries executed longer than the thresholds. Only the sampled part of the queries is measured,
+ * the entries are built for the slow queries only, so the log is cheap for the fast ones.
+ *
+ * @author Egor Kuleshov
+ */
+public final class YdbSlowQueryLog {
+    private static final Logger LOGGER = Loggers.getLogger(YdbSlowQueryLog.class);
+    private static final String DECLARE = "DECLARE ";
+
+    /**
+     * Writes the entries to the driver logger as warnings
+     */
+    public static final YdbSlowQueryListener LOGGING_LISTENER = slowQuery -> LOGGER.warn("Slow query {}", slowQuery);
+
+    private final long dataQueryThresholdNanos;
+    private final long schemeQueryThresholdNanos;
+    private final int samplePercent;
+    private final YdbSlowQueryListener listener;
+
+    /**
+     * @param dataQueryThreshold minimal duration of the logged data queries, zero to not log them
+     * @param schemeQueryThreshold minimal duration of the logged scheme queries, zero to not log them
+     * @param samplePercent percent of the measured queries
+     * @param listener receives the entries
+     */
+    public YdbSlowQueryLog(Duration dataQueryThreshold,
+                           Duration schemeQueryThreshold,
+                           int samplePercent,
+                           YdbSlowQueryListener listener) {
+        this.dataQueryThresholdNanos = toThresholdNanos(dataQueryThreshold);
+        this.schemeQueryThresholdNanos = toThresholdNanos(schemeQueryThreshold);
+        this.samplePercent = samplePercent;
+        this.listener = listener;
+    }
+
+    /**
+     * @return data query should be measured
+     */
+    public boolean sampleDataQuery() {
+        return dataQueryThresholdNanos != Long.MAX_VALUE && Sampling.sample(samplePercent);
+    }
+
+    /**
+     * @return scheme query should be measured
+     */
+    public boolean sampleSchemeQuery() {
+        return schemeQueryThresholdNanos != Long.MAX_VALUE && Sampling.sample(samplePercent);
+    }
+
+    /**
+     * Log the data query if it was executed longer than the threshold.
+     *
+     * @param startNanos {@link System#nanoTime()} before sending the request
+     */
+    public void onDataQuery(long startNanos,
+                            String sessionId,
+                            String yql,
+                            TxControl<?> txControl,
+                            Params params,
+                            Result<DataQueryResult> result) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        if (elapsedNanos < dataQueryThresholdNanos) {
+            return;
+        }
+
+        String txId = txControl.toPb().getTxId();
+        List<Duration> phases = List.of();
+        List<Integer> rowCounts = List.of();
+        if (result.isSuccess()) {
+            DataQueryResult dataQueryResult = result.getValue();
+            if (txId.isEmpty()) {
+                txId = dataQueryResult.getTxId();
+            }
+            if (dataQueryResult.hasQueryStats()) {
+                phases = new ArrayList<>();
+                for (QueryPhaseStats phase : dataQueryResult.getQueryStats().getQueryPhasesList()) {
+                    phases.add(Duration.ofNanos(phase.getDurationUs() * 1000));
+                }
+            }
+            rowCounts = new ArrayList<>(dataQueryResult.getResultSetCount());
+            for (int index = 0; index < dataQueryResult.getResultSetCount(); index++) {
+                rowCounts.add(dataQueryResult.getRowCount(index));
+            }
+        }
+
+        Map<String, String> parameterTypes = new LinkedHashMap<>();
+        for (Map.Entry<String, Value<?>> parameter : params.values().entrySet()) {
+            parameterTypes.put(parameter.getKey(), parameter.getValue().getType().toString());
+        }
+
+        listener.onSlowQuery(new YdbSlowQuery(YdbSlowQuery.Kind.DATA,
+                normalize(yql),
+                parameterTypes,
+                sessionId,
+                txId == null || txId.isEmpty() ? null : txId,
+                Duration.ofNanos(elapsedNanos),
+                phases,
+                rowCounts,
+                result.isSuccess()));
+    }
+
+    /**
+     * Log the scheme query if it was executed longer than the threshold.
+     *
+     * @param startNanos {@link System#nanoTime()} before sending the request
+     */
+    public void onSchemeQuery(long startNanos, String sessionId, String yql, boolean success) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        if (elapsedNanos < schemeQueryThresholdNanos) {
+            return;
+        }
+
+        listener.onSlowQuery(new YdbSlowQuery(YdbSlowQuery.Kind.SCHEME,
+                normalize(yql),
+                Map.of(),
+                sessionId,
+                null,
+                Duration.ofNanos(elapsedNanos),
+                List.of(),
+                List.of(),
+                success));
+    }
+
+    /**
+     * @return query text without the leading DECLARE statements, the types are logged with the parameters
+     */
+    static String normalize(String yql) {
+        int start = 0;
+        while (yql.startsWith(DECLARE, start)) {
+            int end = yql.indexOf('\n', start);
+            if (end < 0) {
+                break;
+            }
+            start = end + 1;
+        }
+
+        return yql.substring(start).trim();
+    }
+
+    private static long toThresholdNanos(Duration threshold) {
+        return threshold.isZero() || threshold.isNegative() ? Long.MAX_VALUE : threshold.toNanos();
+    }
+}
@@ -19,6 +19,11 @@ package tech.ydb.io.r2dbc.options;
 import java.time.Duration;
 
 import io.r2dbc.spi.Option;
+import tech.ydb.io.r2dbc.metrics.YdbMetrics;
+import tech.ydb.io.r2dbc.metrics.YdbQueryStatsListener;
+import tech.ydb.io.r2dbc.metrics.YdbSlowQueryListener;
+import tech.ydb.io.r2dbc.tracing.YdbTracer;
+import tech.ydb.table.query.stats.QueryStatsCollectionMode;
 
 /**
  * @author Egor Kuleshov
@@ -41,4 +46,134 @@ public class OperationOptions {
      * A value of {@code 0} disables the cache.
      */
     public static final Option<Integer> STATEMENT_CACHE_SIZE = Option.valueOf("statementCacheQueries");
+    /**
+     * Specifies the maximum number of server-side prepared queries kept per session.
+     * A value of {@code 0} disables preparing and queries are sent as text on each execution.
+     */
+    public static final Option<Integer> PREPARED_STATEMENT_CACHE_SIZE =
+            Option.valueOf("preparedStatementCacheQueries");
+    /**
+     * Execute bindings of single-row INSERT, UPSERT and REPLACE statements as one query over AS_TABLE
+     */
+    public static final Option<Boolean> BATCH_AS_TABLE = Option.valueOf("batchAsTable");
+    /**
+     * Maximum number of rows in one AS_TABLE batch
+     */
+    public static final Option<Integer> BATCH_MAX_ROWS = Option.valueOf("batchMaxRows");
+    /**
+     * Maximum estimated size in bytes of one AS_TABLE batch
+     */
+    public static final Option<Integer> BATCH_MAX_BYTES = Option.valueOf("batchMaxBytes");
+    /**
+     * Execute single SELECT statements in auto-commit mode as scan queries streaming the result
+     */
+    public static final Option<Boolean> SCAN_QUERY = Option.valueOf("scanQuery");
+    /**
+     * Maximum number of result set parts of a scan query or read table stream buffered ahead of the subscriber.
+     * The stream fails and is cancelled when the subscriber falls further behind.
+     */
+    public static final Option<Integer> STREAM_MAX_BUFFERED_PARTS = Option.valueOf("streamMaxBufferedParts");
+    /**
+     * Pass {@code IN (?, ...)} lists of placeholders as one List parameter, so lists of any length share one query
+     * on the server. The statement cache still keeps an entry per list length.
+     */
+    public static final Option<Boolean> IN_LIST_AS_PARAMETER = Option.valueOf("inListAsParameter");
+    /**
+     * Maximum number of rows in one bulk upsert request
+     */
+    public static final Option<Integer> BULK_UPSERT_MAX_ROWS = Option.valueOf("bulkUpsertMaxRows");
+    /**
+     * Maximum estimated size in bytes of one bulk upsert request
+     */
+    public static final Option<Integer> BULK_UPSERT_MAX_BYTES = Option.valueOf("bulkUpsertMaxBytes");
+    /**
+     * Maximum number of bulk upsert requests in flight for one bulk upsert
+     */
+    public static final Option<Integer> BULK_UPSERT_CONCURRENCY = Option.valueOf("bulkUpsertConcurrency");
+    /**
+     * Time to keep the session of an auto-commit connection between statements.
+     * A value of {@code 0} returns the session to the pool after each statement.
+     */
+    public static final Option<Duration> STICKY_SESSION_MAX_IDLE_TIME = Option.valueOf("stickySessionMaxIdleTime");
+    /**
+     * Maximum number of statements executed on one sticky session before returning it to the pool.
+     * A value of {@code 0} does not limit the number of statements.
+     */
+    public static final Option<Integer> STICKY_SESSION_MAX_STATEMENTS = Option.valueOf("stickySessionMaxStatements");
+    /**
+     * Begin transactions with the first statement instead of a separate BeginTransaction request
+     */
+    public static final Option<Boolean> LAZY_BEGIN_TRANSACTION = Option.valueOf("lazyBeginTransaction");
+    /**
+     * Maximum number of retries of an operation failed with a transient status.
+     * A value of {@code 0} disables retries.
+     */
+    public static final Option<Integer> RETRY_MAX_RETRIES = Option.valueOf("retryMaxRetries");
+    /**
+     * Base delay of the retries after transient statuses other than session errors and overload
+     */
+    public static final Option<Duration> RETRY_FAST_BACKOFF = Option.valueOf("retryFastBackoff");
+    /**
+     * Base delay of the retries after overloaded statuses
+     */
+    public static final Option<Duration> RETRY_SLOW_BACKOFF = Option.valueOf("retrySlowBackoff");
+    /**
+     * Maximum delay between retries
+     */
+    public static final Option<Duration> RETRY_MAX_BACKOFF = Option.valueOf("retryMaxBackoff");
+    /**
+     * Number of retries allowed without successful operations, shared by all connections of the factory
+     */
+    public static final Option<Integer> RETRY_BUDGET = Option.valueOf("retryBudget");
+    /**
+     * Metrics of acquire, execute, decode and commit phases, in-flight statements, caches and transactions.
+     * Nothing is measured when the option is not set.
+     */
+    public static final Option<YdbMetrics> METRICS = Option.valueOf("metrics");
+    /**
+     * Server statistics collected for data queries: NONE, BASIC or FULL. The statistics are available
+     * from {@link tech.ydb.io.r2dbc.result.YdbResult#getQueryStats()}.
+     */
+    public static final Option<QueryStatsCollectionMode> QUERY_STATS_MODE = Option.valueOf("queryStatsMode");
+    /**
+     * Percent of the data queries executed with statistics collection, when the statistics are enabled
+     */
+    public static final Option<Integer> QUERY_STATS_SAMPLE_PERCENT = Option.valueOf("queryStatsSamplePercent");
+    /**
+     * Listener of the collected statistics
+     */
+    public static final Option<YdbQueryStatsListener> QUERY_STATS_LISTENER = Option.valueOf("queryStatsListener");
+    /**
+     * Minimal duration of the data queries written to the slow query log.
+     * A value of {@code 0} does not log data queries.
+     */
+    public static final Option<Duration> SLOW_QUERY_THRESHOLD = Option.valueOf("slowQueryThreshold");
+    /**
+     * Minimal duration of the scheme queries written to the slow query log.
+     * A value of {@code 0} does not log scheme queries.
+     */
+    public static final Option<Duration> SLOW_SCHEME_QUERY_THRESHOLD = Option.valueOf("slowSchemeQueryThreshold");
+    /**
+     * Percent of the queries measured for the slow query log
+     */
+    public static final Option<Integer> SLOW_QUERY_SAMPLE_PERCENT = Option.valueOf("slowQuerySamplePercent");
+    /**
+     * Receiver of the slow query log entries, by default the entries are logged as warnings
+     */
+    public static final Option<YdbSlowQueryListener> SLOW_QUERY_LISTENER = Option.valueOf("slowQueryListener");
+    /**
+     * Tracer of statement execution, session acquisition, transactions and result streaming.
+     * Nothing is traced when the option is not set.
+     */
+    public static final Option<YdbTracer> TRACER = Option.valueOf("tracer");
+    /**
+     * Maximum size in bytes of the cached result sets of read-only SELECT statements executed in auto-commit mode
+     * at the staleReadOnly or snapshotReadOnly isolation level, shared by the connections of the factory.
+     * A value of {@code 0} disables the cache.
+     */
+    public static final Option<Integer> RESULT_CACHE_MAX_BYTES = Option.valueOf("resultCacheMaxBytes");
+    /**
+     * Time to keep the cached result sets, the results may be stale by up to this time
+     */
+    public static final Option<Duration> RESULT_CACHE_TTL = Option.valueOf("resultCacheTtl");
 }
@@ -24,9 +24,11 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.HashMap;
 
 import tech.ydb.io.r2dbc.type.YdbType;
+import tech.ydb.table.values.ListType;
 import tech.ydb.table.values.OptionalType;
 import tech.ydb.table.values.Type;
 import tech.ydb.table.values.Value;
@@ -75,6 +77,10 @@ public class YdbParameterResolver {
             return value;
         } else if (param instanceof Parameter parameter) {
             return resolveParameter(parameter);
+        } else if (param instanceof Collection<?> collection) {
+            return resolveList(collection.toArray());
+        } else if (param instanceof Object[] array) {
+            return resolveList(array);
         }
 
         return resolveClass(param.getClass()).createValue(param);
@@ -100,6 +106,26 @@ public class YdbParameterResolver {
         }
     }
 
+    /**
+     * Resolve the items to a list value, all items must be of the same type.
+     */
+    private static Value<?> resolveList(Object[] items) {
+        if (items.length == 0) {
+            throw new IllegalArgumentException("Could not resolve the item type of an empty list");
+        }
+
+        Value<?>[] values = new Value<?>[items.length];
+        for (int index = 0; index < items.length; index++) {
+            values[index] = resolve(items[index]);
+            if (!values[index].getType().equals(values[0].getType())) {
+                throw new IllegalArgumentException(String.format("List items have different types %s and %s",
+                        values[0].getType(), values[index].getType()));
+            }
+        }
+
+        return ListType.of(values[0].getType()).newValueOwn(values);
+    }
+
     private static Value<?> resolveParameter(Parameter parameter) {
         if (parameter.getType() instanceof YdbType ydbType) {
             if (parameter.getValue() == null) {
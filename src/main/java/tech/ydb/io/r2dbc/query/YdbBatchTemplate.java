@@ -0,0 +1,169 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.ydb.io.r2dbc.query;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import reactor.util.annotation.Nullable;
+import tech.ydb.io.r2dbc.statement.binding.Binding;
+import tech.ydb.io.r2dbc.statement.binding.TypeSignature;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.StructType;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+/**
+ * Template for executing many bindings of a single-row {@code INSERT/UPSERT/REPLACE ... VALUES (...)} query
+ * as one query over {@code AS_TABLE($batch)}, where $batch is a {@code List<Struct<...>>} parameter.
+ *
+ * @author Egor Kuleshov
+ */
+public final class YdbBatchTemplate {
+    public static final String BATCH_PARAM_NAME = "$batch";
+
+    private static final Pattern VALUES_PATTERN = Pattern.compile(
+            "^\\s*(upsert|insert|replace)\\s+into\\s+(`[^`]+`|[\\w/.]+)\\s*\\(([^()]+)\\)\\s*"
+                    + "values\\s*\\(([^()]+)\\)\\s*;?\\s*$",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern IDENTIFIER_PATTERN = Pattern.compile("`[^`]+`|\\w+");
+
+    private final String command;
+    private final String table;
+    private final List<String> columns;
+    private final int[] columnArgIndexes;
+
+    private YdbBatchTemplate(String command, String table, List<String> columns, int[] columnArgIndexes) {
+        this.command = command;
+        this.table = table;
+        this.columns = columns;
+        this.columnArgIndexes = columnArgIndexes;
+    }
+
+    /**
+     * Recognize a query that inserts one row of parameters.
+     *
+     * @param yql query with the positional parameters replaced by names
+     * @param argNames names of the positional parameters
+     * @param sqlOperations operations of the query
+     * @return template or null if the query can not be executed as a batch
+     */
+    @Nullable
+    static YdbBatchTemplate parse(String yql, List<String> argNames, List<SqlOperation> sqlOperations) {
+        if (sqlOperations.size() != 1 || argNames.isEmpty()) {
+            return null;
+        }
+
+        SqlOperation operation = sqlOperations.get(0);
+        if (operation != SqlOperation.UPSERT && operation != SqlOperation.INSERT
+                && operation != SqlOperation.REPLACE) {
+            return null;
+        }
+
+        Matcher matcher = VALUES_PATTERN.matcher(yql);
+        if (!matcher.matches()) {
+            return null;
+        }
+
+        String[] columnTokens = matcher.group(3).split(",");
+        String[] valueTokens = matcher.group(4).split(",");
+        if (columnTokens.length != valueTokens.length || valueTokens.length != argNames.size()) {
+            return null;
+        }
+
+        List<String> columns = new ArrayList<>(columnTokens.length);
+        Set<Integer> usedArgs = new HashSet<>();
+        int[] columnArgIndexes = new int[columnTokens.length];
+        for (int index = 0; index < columnTokens.length; index++) {
+            String column = columnTokens[index].trim();
+            if (!IDENTIFIER_PATTERN.matcher(column).matches()) {
+                return null;
+            }
+            column = column.startsWith("`") ? column.substring(1, column.length() - 1) : column;
+            if (columns.contains(column)) {
+                return null;
+            }
+            columns.add(column);
+
+            int argIndex = argNames.indexOf(valueTokens[index].trim());
+            if (argIndex < 0 || !usedArgs.add(argIndex)) {
+                return null;
+            }
+            columnArgIndexes[index] = argIndex;
+        }
+
+        return new YdbBatchTemplate(matcher.group(1).toUpperCase(), matcher.group(2), List.copyOf(columns),
+                columnArgIndexes);
+    }
+
+    /**
+     * @param typeSignature types of the bindings in the batch
+     * @return type of the batch parameter
+     */
+    public ListType getBatchType(TypeSignature typeSignature) {
+        List<Type> types = new ArrayList<>(columns.size());
+        for (int columnArgIndex : columnArgIndexes) {
+            types.add(typeSignature.getType(columnArgIndex));
+        }
+
+        return ListType.of(StructType.of(columns, types));
+    }
+
+    public String getYqlQuery(ListType batchType) {
+        return "DECLARE " + BATCH_PARAM_NAME + " AS " + batchType + ";\n"
+                + command + " INTO " + table + " SELECT * FROM AS_TABLE(" + BATCH_PARAM_NAME + ");";
+    }
+
+    /**
+     * Fold the bindings with the same type signature into the batch parameter value.
+     *
+     * @param batchType type of the batch parameter
+     * @param bindings bindings with the same type signature
+     * @return value of the batch parameter
+     */
+    public ListValue toBatchValue(ListType batchType, List<Binding> bindings) {
+        StructType structType = (StructType) batchType.getItemType();
+        Map<String, Integer> columnIndexes = new HashMap<>(columns.size());
+        for (int index = 0; index < columns.size(); index++) {
+            columnIndexes.put(columns.get(index), index);
+        }
+        int[] memberArgIndexes = new int[structType.getMembersCount()];
+        for (int member = 0; member < memberArgIndexes.length; member++) {
+            memberArgIndexes[member] = columnArgIndexes[columnIndexes.get(structType.getMemberName(member))];
+        }
+
+        Value<?>[] rows = new Value<?>[bindings.size()];
+        for (int row = 0; row < rows.length; row++) {
+            Binding binding = bindings.get(row);
+            Value<?>[] members = new Value<?>[memberArgIndexes.length];
+            for (int member = 0; member < members.length; member++) {
+                members[member] = binding.getValue(memberArgIndexes[member]);
+            }
+            rows[row] = structType.newValueUnsafe(members);
+        }
+
+        return batchType.newValueOwn(rows);
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.query;
+
+import java.util.List;
+import java.util.Set;
+
+import reactor.util.annotation.Nullable;
+import tech.ydb.io.r2dbc.statement.binding.Binding;
+import tech.ydb.io.r2dbc.statement.binding.TypeSignature;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+/**
+ * Template of a query with {@code IN (?, ...)} lists, where each list is passed as one {@code List<T>} parameter.
+ * A list of one placeholder bound to a collection is passed as is. The template is used when the values bound
+ * in every list have the same type, so the lists of any length share the query text and the compiled query.
+ *
+ * @author Egor Kuleshov
+ */
+public final class YdbInListTemplate {
+    private final String yql;
+    private final List<String> slotNames;
+    private final int[] slotStarts;
+    private final int[] slotCounts;
+    private final boolean[] slotLists;
+    private final List<String> namedArgsNames;
+    private final Set<String> declaredNames;
+    private final int indexedCount;
+
+    /**
+     * @param yql query with the parameters named by slot
+     * @param slotNames names of the parameters of the template, one per list or single placeholder
+     * @param slotStarts index of the first placeholder of the slot
+     * @param slotCounts number of the placeholders of the slot
+     * @param slotLists whether the slot is a list in parentheses
+     * @param namedArgsNames names of the named parameters, the same as in the query
+     * @param declaredNames named parameters declared by the query itself
+     */
+    YdbInListTemplate(String yql, List<String> slotNames, int[] slotStarts, int[] slotCounts, boolean[] slotLists,
+                      List<String> namedArgsNames, Set<String> declaredNames) {
+        this.yql = yql;
+        this.slotNames = slotNames;
+        this.slotStarts = slotStarts;
+        this.slotCounts = slotCounts;
+        this.slotLists = slotLists;
+        this.namedArgsNames = namedArgsNames;
+        this.declaredNames = declaredNames;
+
+        int indexedCount = 0;
+        for (int slotCount : slotCounts) {
+            indexedCount += slotCount;
+        }
+        this.indexedCount = indexedCount;
+    }
+
+    /**
+     * @param typeSignature types of the bound values of the query
+     * @return types of the slots followed by the types of the named parameters
+     *         or null if the values of some list have different types
+     */
+    @Nullable
+    Type[] getTypes(TypeSignature typeSignature) {
+        Type[] types = new Type[slotNames.size() + namedArgsNames.size()];
+        for (int slot = 0; slot < slotNames.size(); slot++) {
+            if (slotLists[slot]) {
+                types[slot] = getListType(typeSignature, slot);
+                if (types[slot] == null) {
+                    return null;
+                }
+            } else {
+                types[slot] = typeSignature.getType(slotStarts[slot]);
+            }
+        }
+        for (int named = 0; named < namedArgsNames.size(); named++) {
+            types[slotNames.size() + named] = typeSignature.getType(indexedCount + named);
+        }
+
+        return types;
+    }
+
+    String getYqlQuery(Type[] types) {
+        StringBuilder declares = new StringBuilder();
+        for (int index = 0; index < types.length; index++) {
+            String name = getName(index);
+            if (!declaredNames.contains(name)) {
+                YdbQuery.appendDeclare(declares, name, types[index]);
+            }
+        }
+
+        return declares.append(yql).toString();
+    }
+
+    String getYqlBody() {
+        return yql;
+    }
+
+    Params toParams(Binding binding, Type[] types) {
+        Params params = Params.create(types.length);
+        for (int slot = 0; slot < slotNames.size(); slot++) {
+            int start = slotStarts[slot];
+            if (!slotLists[slot] || slotCounts[slot] == 1 && binding.getValue(start).getType() instanceof ListType) {
+                putIfBound(params, slotNames.get(slot), binding.getValue(start));
+                continue;
+            }
+
+            ListType listType = (ListType) types[slot];
+            Type itemType = listType.getItemType();
+            Value<?>[] items = new Value<?>[slotCounts[slot]];
+            for (int item = 0; item < items.length; item++) {
+                Value<?> value = binding.getValue(start + item);
+                items[item] = itemType instanceof OptionalType optionalType && !(value.getType() instanceof OptionalType)
+                        ? optionalType.newValue(value)
+                        : value;
+            }
+            params.put(slotNames.get(slot), listType.newValueOwn(items));
+        }
+        for (int named = 0; named < namedArgsNames.size(); named++) {
+            putIfBound(params, namedArgsNames.get(named), binding.getValue(indexedCount + named));
+        }
+
+        return params;
+    }
+
+    private String getName(int index) {
+        return index < slotNames.size() ? slotNames.get(index) : namedArgsNames.get(index - slotNames.size());
+    }
+
+    @Nullable
+    private ListType getListType(TypeSignature typeSignature, int slot) {
+        int start = slotStarts[slot];
+        if (slotCounts[slot] == 1 && typeSignature.getType(start) instanceof ListType listType) {
+            return listType;
+        }
+
+        Type itemType = null;
+        boolean optional = false;
+        for (int index = start; index < start + slotCounts[slot]; index++) {
+            Type type = typeSignature.getType(index);
+            if (type == null) {
+                return null;
+            }
+            if (type instanceof OptionalType optionalType) {
+                optional = true;
+                type = optionalType.getItemType();
+            }
+            if (itemType == null) {
+                itemType = type;
+            } else if (!itemType.equals(type)) {
+                return null;
+            }
+        }
+
+        return ListType.of(optional ? itemType.makeOptional() : itemType);
+    }
+
+    private static void putIfBound(Params params, String name, @Nullable Value<?> value) {
+        if (value != null) {
+            params.put(name, value);
+        }
+    }
+}
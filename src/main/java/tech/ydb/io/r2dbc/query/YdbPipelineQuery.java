@@ -0,0 +1,118 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.query;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import tech.ydb.io.r2dbc.statement.binding.Binding;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.Value;
+
+/**
+ * Several DML statements merged into one multi-statement data query.
+ * Parameters of each statement are prefixed by the statement position, so statements with the same
+ * parameter names do not collide. A statement reading the tables, including INSERT, is merged only before the first
+ * modification, because YDB does not allow to read the changes made earlier in the same query.
+ *
+ * @author Egor Kuleshov
+ */
+public final class YdbPipelineQuery {
+    private final StringBuilder body = new StringBuilder();
+    private final Params params = Params.create();
+    private final List<OperationType> operationTypes = new ArrayList<>();
+    private final Set<String> declaredNames = new HashSet<>();
+    private int statements;
+    private boolean modified;
+
+    /**
+     * @return true if the query can be appended to the merged statements
+     */
+    public boolean canAppend(YdbQuery query) {
+        if (query.type() != QueryType.DML) {
+            return false;
+        }
+        if (!modified) {
+            return true;
+        }
+
+        for (SqlOperation sqlOperation : query.getSqlOperations()) {
+            // INSERT reads the table to check the row does not exist
+            if (sqlOperation != SqlOperation.UPSERT && sqlOperation != SqlOperation.REPLACE) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Append the statement with the bound parameters, the caller checks {@link #canAppend(YdbQuery)} first.
+     */
+    public void append(YdbQuery query, Binding binding) {
+        String prefix = "p" + statements++ + "_";
+        String yql = YdbSqlParser.prefixParameters(query.getYqlBody(binding), prefix).strip();
+        while (yql.endsWith(";")) {
+            yql = yql.substring(0, yql.length() - 1).stripTrailing();
+        }
+        // a trailing line comment would swallow the separator
+        body.append(yql).append(yql.contains("--") ? "\n;\n" : ";\n");
+
+        for (Map.Entry<String, Value<?>> parameter : query.toParams(binding).values().entrySet()) {
+            params.put("$" + prefix + parameter.getKey().substring(1), parameter.getValue());
+        }
+        for (String declaredName : query.getDeclaredNames()) {
+            declaredNames.add("$" + prefix + declaredName.substring(1));
+        }
+        for (SqlOperation sqlOperation : query.getSqlOperations()) {
+            operationTypes.add(sqlOperation.getOperationType());
+            modified |= sqlOperation.getOperationType() == OperationType.UPDATE;
+        }
+    }
+
+    public boolean isEmpty() {
+        return statements == 0;
+    }
+
+    /**
+     * @return merged statements with the DECLARE prelude of all parameters
+     */
+    public String getYqlQuery() {
+        StringBuilder yql = new StringBuilder();
+        for (Map.Entry<String, Value<?>> parameter : params.values().entrySet()) {
+            if (!declaredNames.contains(parameter.getKey())) {
+                YdbQuery.appendDeclare(yql, parameter.getKey(), parameter.getValue().getType());
+            }
+        }
+
+        return yql.append(body).toString();
+    }
+
+    public Params getParams() {
+        return params;
+    }
+
+    /**
+     * @return operations of the merged statements in the order of their results
+     */
+    public List<OperationType> getOperationTypes() {
+        return operationTypes;
+    }
+}
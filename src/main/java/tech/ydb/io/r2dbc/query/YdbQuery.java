@@ -17,51 +17,176 @@
 package tech.ydb.io.r2dbc.query;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import reactor.util.annotation.Nullable;
 import tech.ydb.io.r2dbc.statement.binding.Binding;
+import tech.ydb.io.r2dbc.statement.binding.ParameterNames;
+import tech.ydb.io.r2dbc.statement.binding.TypeSignature;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.Type;
 
 /**
  * @author Egor Kuleshov
  */
 public class YdbQuery {
+    private static final int MAX_CACHED_TYPE_SIGNATURES = 16;
+
     private final String yqlQuery;
     private final QueryType type;
     private final List<String> indexesArgsNames;
+    private final ParameterNames parameterNames;
     private final List<SqlOperation> sqlOperations;
+    private final YdbBatchTemplate batchTemplate;
+    private final YdbInListTemplate inListTemplate;
+    private final Map<TypeSignature, String> yqlByTypes = new ConcurrentHashMap<>();
 
-    public YdbQuery(String yql, List<String> indexesArgsNames, QueryType queryType,
-                    List<SqlOperation> sqlOperations) {
+    public YdbQuery(String yql, List<String> indexesArgsNames, List<String> namedArgsNames, Set<String> declaredNames,
+                    QueryType queryType, List<SqlOperation> sqlOperations, @Nullable YdbInListTemplate inListTemplate) {
         this.yqlQuery = yql;
         this.indexesArgsNames = indexesArgsNames;
+        this.parameterNames = new ParameterNames(indexesArgsNames, namedArgsNames, declaredNames);
         this.type = queryType;
         this.sqlOperations = sqlOperations;
+        this.batchTemplate = YdbBatchTemplate.parse(yql, indexesArgsNames, sqlOperations);
+        this.inListTemplate = inListTemplate;
+    }
+
+    public YdbQuery(String yql, List<String> indexesArgsNames, List<String> namedArgsNames, QueryType queryType,
+                    List<SqlOperation> sqlOperations) {
+        this(yql, indexesArgsNames, namedArgsNames, Set.of(), queryType, sqlOperations, null);
+    }
+
+    public YdbQuery(String yql, List<String> indexesArgsNames, QueryType queryType,
+                    List<SqlOperation> sqlOperations) {
+        this(yql, indexesArgsNames, List.of(), queryType, sqlOperations);
     }
 
     public YdbQuery(String yql, List<String> indexesArgsNames, QueryType queryType) {
         this(yql, indexesArgsNames, queryType, List.of());
     }
 
+    /**
+     * Build the query text with the DECLARE prelude of the bound parameter types.
+     * Text is memoized by the type signature, so executions with the same types share the same string.
+     * {@code IN (?, ...)} lists with values of the same type are passed as one list parameter.
+     *
+     * @param binding bound parameters
+     * @return yql query with declared parameters
+     */
     public String getYqlQuery(Binding binding) {
-        return getDeclares(binding) + yqlQuery;
+        TypeSignature typeSignature = binding.getTypeSignature();
+        String yql = yqlByTypes.get(typeSignature);
+        if (yql != null) {
+            return yql;
+        }
+
+        Type[] inListTypes = inListTemplate == null ? null : inListTemplate.getTypes(typeSignature);
+        if (inListTypes != null) {
+            yql = inListTemplate.getYqlQuery(inListTypes);
+        } else {
+            yql = getDeclares(binding.getParameterNames(), typeSignature) + yqlQuery;
+        }
+        if (yqlByTypes.size() < MAX_CACHED_TYPE_SIGNATURES) {
+            yqlByTypes.putIfAbsent(typeSignature, yql);
+        }
+
+        return yql;
+    }
+
+    /**
+     * @param binding bound parameters
+     * @return parameters of the query text returned by {@link #getYqlQuery(Binding)}
+     */
+    public Params toParams(Binding binding) {
+        if (inListTemplate != null) {
+            Type[] inListTypes = inListTemplate.getTypes(binding.getTypeSignature());
+            if (inListTypes != null) {
+                return inListTemplate.toParams(binding, inListTypes);
+            }
+        }
+
+        return binding.toParams();
+    }
+
+    /**
+     * @return query text of {@link #getYqlQuery(Binding)} without the DECLARE prelude
+     */
+    String getYqlBody(Binding binding) {
+        if (inListTemplate != null && inListTemplate.getTypes(binding.getTypeSignature()) != null) {
+            return inListTemplate.getYqlBody();
+        }
+
+        return yqlQuery;
+    }
+
+    List<SqlOperation> getSqlOperations() {
+        return sqlOperations;
     }
 
     public static String getDeclares(Binding binding) {
+        return getDeclares(binding.getParameterNames(), binding.getTypeSignature());
+    }
+
+    private static String getDeclares(ParameterNames names, TypeSignature typeSignature) {
         StringBuilder yql = new StringBuilder();
-        binding.values().forEach((name, value) -> yql.append("DECLARE ")
-                .append(name)
-                .append(" AS ")
-                .append(value.getType())
-                .append(";\n"));
+        for (int index = 0; index < typeSignature.size(); index++) {
+            String name = names.getName(index);
+            if (!names.isDeclared(name)) {
+                appendDeclare(yql, name, typeSignature.getType(index));
+            }
+        }
 
         return yql.toString();
     }
 
+    static void appendDeclare(StringBuilder yql, String name, @Nullable Type type) {
+        if (type != null) {
+            yql.append("DECLARE ")
+                    .append(name)
+                    .append(" AS ")
+                    .append(type)
+                    .append(";\n");
+        }
+    }
+
     public List<String> getIndexArgNames() {
         return indexesArgsNames;
     }
 
+    /**
+     * @return names of the {@code $name} parameters used in the query
+     */
+    public List<String> getNamedArgNames() {
+        return parameterNames.getNamedNames();
+    }
+
+    /**
+     * @return named parameters declared by the query itself
+     */
+    public Set<String> getDeclaredNames() {
+        return parameterNames.getDeclaredNames();
+    }
+
+    /**
+     * @return positional and named parameters of the query by ordinal
+     */
+    public ParameterNames getParameterNames() {
+        return parameterNames;
+    }
+
+    /**
+     * @return template to execute many bindings as one AS_TABLE query or null if the query is not supported
+     */
+    @Nullable
+    public YdbBatchTemplate getBatchTemplate() {
+        return batchTemplate;
+    }
+
     public QueryType type() {
         return type;
     }
@@ -87,11 +212,12 @@ public class YdbQuery {
         }
         YdbQuery query = (YdbQuery) o;
         return Objects.equals(yqlQuery, query.yqlQuery) && type == query.type && Objects.equals(indexesArgsNames,
-                query.indexesArgsNames) && Objects.equals(sqlOperations, query.sqlOperations);
+                query.indexesArgsNames) && Objects.equals(getNamedArgNames(), query.getNamedArgNames())
+                && Objects.equals(sqlOperations, query.sqlOperations);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(yqlQuery, type, indexesArgsNames, sqlOperations);
+        return Objects.hash(yqlQuery, type, indexesArgsNames, getNamedArgNames(), sqlOperations);
     }
 }
@@ -17,62 +17,226 @@
 package tech.ydb.io.r2dbc.query;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
-
+import java.util.Set;
 
 import io.r2dbc.spi.R2dbcBadGrammarException;
 
 /**
+ * Single pass parser of sql, replaces {@code ?} placeholders with generated {@code $jpN} parameters
+ * and collects the {@code $name} parameters used in the sql. Names declared by the sql itself are kept as parameters
+ * without a generated DECLARE, named expressions and lambda arguments are not parameters.
+ *
  * @author Egor Kuleshov
  */
 public class YdbSqlParser {
+    private static final String SPECIAL_PARAMETER_PREFIX = "$jp";
+    private static final char[] DECLARE = "declare".toCharArray();
+
     public static YdbQuery parse(String sql) {
+        return parse(sql, false);
+    }
+
+    /**
+     * @param inListAsParameter recognize {@code IN (?, ...)} lists to pass them as one List parameter
+     */
+    public static YdbQuery parse(String sql, boolean inListAsParameter) {
         YdbQueryBuilder builder = new YdbQueryBuilder(sql);
-        char[] chars = sql.toCharArray();
-        int fragmentStart = 0;
+        int length = sql.length();
 
         boolean nextExpression = true;
 
-        for (int i = 0; i < chars.length; ++i) {
-            char ch = chars[i];
+        for (int i = 0; i < length; ++i) {
+            char ch = sql.charAt(i);
             switch (ch) {
-                case '\'' -> i = parseSingleQuotes(chars, i);
-                case '"' -> i = parseDoubleQuotes(chars, i);
-                case '-' -> i = parseLineComment(chars, i);
-                case '/' -> i = parseBlockComment(chars, i);
+                case '\'' -> i = parseSingleQuotes(sql, i);
+                case '"' -> i = parseDoubleQuotes(sql, i);
+                case '-' -> i = parseLineComment(sql, i);
+                case '>' -> parseLambdaArguments(sql, i, builder);
+                case '/' -> i = parseBlockComment(sql, i);
                 case ';' -> nextExpression = true;
-                case '?' -> {
-                    parseSpecialParam(chars, i, fragmentStart, builder);
+                case '?' -> builder.addSpecialParameter(i);
+                case '(' -> i = inListAsParameter ? parseInList(sql, i, builder) : i;
+                default -> {
+                    if (nextExpression && ch == '$') {
+                        nextExpression = false;
+                        i = parseNamedExpression(sql, i, builder);
+                    } else if (nextExpression && Character.isJavaIdentifierStart(ch)) {
+                        nextExpression = false;
+                        if (isDeclare(sql, i)) {
+                            i = parseDeclare(sql, i + DECLARE.length, builder);
+                        } else {
+                            builder.addExpression(parseSqlOperation(sql, i));
+                        }
+                    } else if (ch == '$') {
+                        i = parseParameterName(sql, i, builder);
+                    }
+                }
+            }
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Prefix every {@code $name} of the yql outside of literals and comments, the names become {@code $prefixname}.
+     */
+    static String prefixParameters(String yql, String prefix) {
+        StringBuilder result = new StringBuilder(yql.length() + 16 * prefix.length());
+        int fragmentStart = 0;
+        for (int i = 0; i < yql.length(); ++i) {
+            switch (yql.charAt(i)) {
+                case '\'' -> i = parseSingleQuotes(yql, i);
+                case '"' -> i = parseDoubleQuotes(yql, i);
+                case '-' -> i = parseLineComment(yql, i);
+                case '/' -> i = parseBlockComment(yql, i);
+                case '$' -> {
+                    result.append(yql, fragmentStart, i + 1).append(prefix);
                     fragmentStart = i + 1;
                 }
                 default -> {
-                    if (nextExpression && Character.isJavaIdentifierStart(ch)) {
-                        nextExpression = false;
-                        builder.addExpression(parseSqlOperation(chars, i));
+                }
+            }
+        }
+
+        return result.append(yql, fragmentStart, yql.length()).toString();
+    }
+
+    /**
+     * Recognize {@code IN (?, ...)} with only placeholders in the parentheses.
+     *
+     * @return offset of the closing parenthesis of the recognized list or the offset of the opening one
+     */
+    private static int parseInList(String sql, int offset, YdbQueryBuilder builder) {
+        int keywordEnd = offset;
+        while (keywordEnd > 0 && Character.isWhitespace(sql.charAt(keywordEnd - 1))) {
+            keywordEnd--;
+        }
+        if (keywordEnd < 2 || (sql.charAt(keywordEnd - 2) | 32) != 'i' || (sql.charAt(keywordEnd - 1) | 32) != 'n'
+                || keywordEnd > 2 && Character.isJavaIdentifierPart(sql.charAt(keywordEnd - 3))) {
+            return offset;
+        }
+
+        int count = 0;
+        boolean expectPlaceholder = true;
+        for (int i = offset + 1; i < sql.length(); i++) {
+            char ch = sql.charAt(i);
+            if (Character.isWhitespace(ch)) {
+                continue;
+            }
+            if (expectPlaceholder && ch == '?') {
+                count++;
+                expectPlaceholder = false;
+            } else if (!expectPlaceholder && ch == ',') {
+                expectPlaceholder = true;
+            } else if (!expectPlaceholder && ch == ')') {
+                builder.addInList(offset, i, count);
+                for (int j = offset + 1; j < i; j++) {
+                    if (sql.charAt(j) == '?') {
+                        builder.addSpecialParameter(j);
                     }
                 }
+
+                return i;
+            } else {
+                return offset;
             }
         }
 
+        return offset;
+    }
+
+    private static int parseParameterName(String sql, int offset, YdbQueryBuilder builder) {
+        int end = parseNameEnd(sql, offset);
+        builder.addParameterName(sql.substring(offset, end));
 
-        if (fragmentStart < chars.length) {
-            builder.append(chars, fragmentStart, chars.length - fragmentStart);
+        return end - 1;
+    }
+
+    private static int parseNameEnd(String sql, int offset) {
+        int end = offset + 1;
+        while (end < sql.length() && Character.isJavaIdentifierPart(sql.charAt(end))) {
+            end++;
         }
 
-        return builder.build();
+        return end;
+    }
+
+    /**
+     * Named expression {@code $name = ...} at the start of a statement, the name is defined by the query itself.
+     */
+    private static int parseNamedExpression(String sql, int offset, YdbQueryBuilder builder) {
+        int end = parseNameEnd(sql, offset);
+        builder.addLocalName(sql.substring(offset, end));
+
+        return end - 1;
+    }
+
+    private static boolean isDeclare(String sql, int offset) {
+        return parseWord(sql, offset, DECLARE)
+                && offset + DECLARE.length < sql.length()
+                && Character.isWhitespace(sql.charAt(offset + DECLARE.length));
     }
 
-    private static void parseSpecialParam(char[] chars, int i, int prev, YdbQueryBuilder builder) {
-        builder.append(chars, prev, i - prev);
-        builder.addSpecialParameter();
+    /**
+     * {@code DECLARE $name AS type} written in the sql, the name is bound as usual but not declared again.
+     */
+    private static int parseDeclare(String sql, int offset, YdbQueryBuilder builder) {
+        int start = offset;
+        while (start < sql.length() && Character.isWhitespace(sql.charAt(start))) {
+            start++;
+        }
+        if (start == sql.length() || sql.charAt(start) != '$') {
+            return start - 1;
+        }
+
+        int end = parseNameEnd(sql, start);
+        String name = sql.substring(start, end);
+        builder.addParameterName(name);
+        builder.addDeclaredName(name);
+
+        return end - 1;
     }
 
-    private static SqlOperation parseSqlOperation(char[] query, int offset) {
+    /**
+     * Arguments of a lambda {@code ($a, $b) -> ...}, called at the {@code >} of the arrow.
+     */
+    private static void parseLambdaArguments(String sql, int offset, YdbQueryBuilder builder) {
+        if (offset == 0 || sql.charAt(offset - 1) != '-') {
+            return;
+        }
+
+        int close = offset - 2;
+        while (close >= 0 && Character.isWhitespace(sql.charAt(close))) {
+            close--;
+        }
+        if (close < 0 || sql.charAt(close) != ')') {
+            return;
+        }
+        int open = sql.lastIndexOf('(', close);
+        if (open < 0) {
+            return;
+        }
+
+        for (String argument : sql.substring(open + 1, close).split(",")) {
+            String name = argument.strip();
+            if (name.startsWith("$")) {
+                builder.addLocalName(name.substring(0, parseNameEnd(name, 0)));
+            }
+        }
+    }
+
+    private static SqlOperation parseSqlOperation(String query, int offset) {
         SqlOperation[] sqlOperations = SqlOperation.values();
         for (SqlOperation sqlOperation : sqlOperations) {
-            if (parseWord(query, offset, sqlOperation.getKeyword())
-                    && Character.isWhitespace(query[offset + sqlOperation.getKeyword().length])) {
+            char[] keyword = sqlOperation.getKeyword();
+            if (parseWord(query, offset, keyword)
+                    && offset + keyword.length < query.length()
+                    && Character.isWhitespace(query.charAt(offset + keyword.length))) {
                 return sqlOperation;
             }
         }
@@ -80,13 +244,13 @@ public class YdbSqlParser {
         throw new R2dbcBadGrammarException("Unknown YQL keyword at position " + offset);
     }
 
-    private static boolean parseWord(char[] query, int offset, char[] word) {
-        if (offset + word.length > query.length) {
+    private static boolean parseWord(String query, int offset, char[] word) {
+        if (offset + word.length > query.length()) {
             return false;
         }
 
         for (int i = 0; i < word.length; i++) {
-            if ((query[offset + i] | 32) != word[i]) {
+            if ((query.charAt(offset + i) | 32) != word[i]) {
                 return false;
             }
         }
@@ -94,9 +258,9 @@ public class YdbSqlParser {
         return true;
     }
 
-    private static int parseSingleQuotes(final char[] query, int offset) {
-        while (++offset < query.length) {
-            switch (query[offset]) {
+    private static int parseSingleQuotes(final String query, int offset) {
+        while (++offset < query.length()) {
+            switch (query.charAt(offset)) {
                 case '\\' -> ++offset;
                 case '\'' -> {
                     return offset;
@@ -106,21 +270,21 @@ public class YdbSqlParser {
             }
         }
 
-        return query.length;
+        return query.length();
     }
 
-    private static int parseDoubleQuotes(final char[] query, int offset) {
-        while (++offset < query.length && query[offset] != '"') {
+    private static int parseDoubleQuotes(final String query, int offset) {
+        while (++offset < query.length() && query.charAt(offset) != '"') {
             // do nothing
         }
         return offset;
     }
 
-    private static int parseLineComment(final char[] query, int offset) {
-        if (offset + 1 < query.length && query[offset + 1] == '-') {
-            while (offset + 1 < query.length) {
+    private static int parseLineComment(final String query, int offset) {
+        if (offset + 1 < query.length() && query.charAt(offset + 1) == '-') {
+            while (offset + 1 < query.length()) {
                 offset++;
-                if (query[offset] == '\r' || query[offset] == '\n') {
+                if (query.charAt(offset) == '\r' || query.charAt(offset) == '\n') {
                     break;
                 }
             }
@@ -128,20 +292,20 @@ public class YdbSqlParser {
         return offset;
     }
 
-    private static int parseBlockComment(final char[] query, int offset) {
-        if (offset + 1 < query.length && query[offset + 1] == '*') {
+    private static int parseBlockComment(final String query, int offset) {
+        if (offset + 1 < query.length() && query.charAt(offset + 1) == '*') {
             // /* /* */ */ nest, according to SQL spec
             int level = 1;
-            for (offset += 2; offset < query.length; ++offset) {
-                switch (query[offset - 1]) {
+            for (offset += 2; offset < query.length(); ++offset) {
+                switch (query.charAt(offset - 1)) {
                     case '*' -> {
-                        if (query[offset] == '/') {
+                        if (query.charAt(offset) == '/') {
                             --level;
                             ++offset; // don't parse / in */* twice
                         }
                     }
                     case '/' -> {
-                        if (query[offset] == '*') {
+                        if (query.charAt(offset) == '*') {
                             ++level;
                             ++offset; // don't parse * in /*/ twice
                         }
@@ -159,32 +323,59 @@ public class YdbSqlParser {
         return offset;
     }
 
+    /**
+     * Collects offsets of the placeholders and the parameter names used in the sql during the scan,
+     * the placeholders are named and the yql is assembled once in {@link #build()}.
+     */
     private static class YdbQueryBuilder {
         private final String origin;
-        private final StringBuilder query;
-        private final List<String> args = new ArrayList<>();
         private final List<SqlOperation> expressions = new ArrayList<>();
+        private final Set<String> parameterNames = new LinkedHashSet<>();
+        private final Set<String> localNames = new HashSet<>();
+        private final Set<String> declaredNames = new HashSet<>();
 
+        private final List<int[]> inLists = new ArrayList<>();
+
+        private int[] placeholders = new int[8];
+        private int placeholdersCount = 0;
+        private final List<String> generatedNames = new ArrayList<>();
         private int argsCounter = 0;
         private QueryType currentType = null;
 
         YdbQueryBuilder(String origin) {
-
             this.origin = origin;
-            this.query = new StringBuilder(origin.length() + 10);
         }
 
-        public void addSpecialParameter() {
-            while (true) {
-                argsCounter++;
-                String next = "$jp" + argsCounter;
-                if (!origin.contains(next)) {
-                    args.add(next);
-                    append(next);
-
-                    return;
-                }
+        public void addSpecialParameter(int offset) {
+            if (placeholdersCount == placeholders.length) {
+                placeholders = Arrays.copyOf(placeholders, placeholders.length * 2);
             }
+            placeholders[placeholdersCount++] = offset;
+        }
+
+        /**
+         * Register a list of placeholders in parentheses, must be called before adding its placeholders.
+         */
+        public void addInList(int openOffset, int closeOffset, int count) {
+            inLists.add(new int[]{openOffset, closeOffset, placeholdersCount, count});
+        }
+
+        public void addParameterName(String name) {
+            parameterNames.add(name);
+        }
+
+        /**
+         * Register a name defined by the query itself, a named expression or a lambda argument.
+         */
+        public void addLocalName(String name) {
+            localNames.add(name);
+        }
+
+        /**
+         * Register a parameter declared by the query itself.
+         */
+        public void addDeclaredName(String name) {
+            declaredNames.add(name);
         }
 
         public void addExpression(SqlOperation sqlOperation) {
@@ -197,22 +388,89 @@ public class YdbSqlParser {
             this.currentType = sqlOperation.getOperationType().getQueryType();
         }
 
-        public void append(char[] chars, int start, int end) {
-            query.append(chars, start, end);
-        }
+        public YdbQuery build() {
+            Objects.requireNonNull(currentType);
 
-        public void append(char ch) {
-            query.append(ch);
+            parameterNames.removeAll(localNames);
+            if (placeholdersCount == 0) {
+                return new YdbQuery(origin, List.of(), List.copyOf(parameterNames), Set.copyOf(declaredNames),
+                        currentType, expressions, null);
+            }
+
+            List<String> args = new ArrayList<>(placeholdersCount);
+            StringBuilder query = new StringBuilder(origin.length() + placeholdersCount * 6);
+            int fragmentStart = 0;
+            for (int i = 0; i < placeholdersCount; i++) {
+                String name = nextName(args.size());
+                args.add(name);
+                query.append(origin, fragmentStart, placeholders[i]).append(name);
+                fragmentStart = placeholders[i] + 1;
+            }
+            query.append(origin, fragmentStart, origin.length());
+
+            List<String> namedArgs = List.copyOf(parameterNames);
+            YdbInListTemplate inListTemplate = inLists.isEmpty() ? null : buildInListTemplate(namedArgs);
+
+            return new YdbQuery(query.toString(), args, namedArgs, Set.copyOf(declaredNames), currentType, expressions,
+                    inListTemplate);
         }
 
-        public void append(String string) {
-            query.append(string);
+        /**
+         * Build the query with every list of placeholders in parentheses replaced by one list parameter.
+         * Parameters are named by their position in this query, so lists of any length give the same text.
+         */
+        private YdbInListTemplate buildInListTemplate(List<String> namedArgs) {
+            List<String> slotNames = new ArrayList<>();
+            int[] slotStarts = new int[placeholdersCount];
+            int[] slotCounts = new int[placeholdersCount];
+            boolean[] slotLists = new boolean[placeholdersCount];
+            StringBuilder query = new StringBuilder(origin.length());
+            int fragmentStart = 0;
+            int inList = 0;
+            for (int i = 0; i < placeholdersCount; ) {
+                int slot = slotNames.size();
+                slotNames.add(nextName(slot));
+                slotStarts[slot] = i;
+                if (inList < inLists.size() && inLists.get(inList)[2] == i) {
+                    int[] list = inLists.get(inList++);
+                    query.append(origin, fragmentStart, list[0]);
+                    if (!Character.isWhitespace(origin.charAt(list[0] - 1))) {
+                        query.append(' ');
+                    }
+                    query.append(slotNames.get(slot));
+                    fragmentStart = list[1] + 1;
+                    slotCounts[slot] = list[3];
+                    slotLists[slot] = true;
+                    i += list[3];
+                } else {
+                    query.append(origin, fragmentStart, placeholders[i]).append(slotNames.get(slot));
+                    fragmentStart = placeholders[i] + 1;
+                    slotCounts[slot] = 1;
+                    i++;
+                }
+            }
+            query.append(origin, fragmentStart, origin.length());
+
+            return new YdbInListTemplate(query.toString(), slotNames, Arrays.copyOf(slotStarts, slotNames.size()),
+                    Arrays.copyOf(slotCounts, slotNames.size()), Arrays.copyOf(slotLists, slotNames.size()), namedArgs,
+                    Set.copyOf(declaredNames));
         }
 
-        public YdbQuery build() {
-            Objects.requireNonNull(currentType);
+        /**
+         * @return generated name of the placeholder, skipping the names used in the sql
+         */
+        private String nextName(int index) {
+            if (generatedNames.size() > index) {
+                return generatedNames.get(index);
+            }
+
+            String name;
+            do {
+                name = SPECIAL_PARAMETER_PREFIX + ++argsCounter;
+            } while (parameterNames.contains(name));
+            generatedNames.add(name);
 
-            return new YdbQuery(query.toString(), args, currentType, expressions);
+            return name;
         }
     }
 }
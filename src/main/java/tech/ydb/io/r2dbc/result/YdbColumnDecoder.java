@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.result;
+
+import reactor.util.annotation.Nullable;
+import tech.ydb.io.r2dbc.parameter.YdbParameterResolver;
+import tech.ydb.io.r2dbc.type.YdbType;
+import tech.ydb.table.result.ValueReader;
+import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.OptionalValue;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+/**
+ * Decoder of a column to a java object, resolved once per column of the row metadata.
+ *
+ * @author Egor Kuleshov
+ */
+final class YdbColumnDecoder {
+    private final String name;
+    private final Type type;
+    private final boolean optional;
+    private final YdbType ydbType;
+    private final PrimitiveType primitiveType;
+
+    YdbColumnDecoder(String name, Type type) {
+        this.name = name;
+        this.type = type;
+        this.optional = type instanceof OptionalType;
+        this.ydbType = YdbParameterResolver.resolveResultType(type);
+
+        Type itemType = optional ? ((OptionalType) type).getItemType() : type;
+        this.primitiveType = itemType instanceof PrimitiveType primitive ? primitive : null;
+    }
+
+    /**
+     * @param reader column reader positioned at the row
+     * @return java object of the value or null for an empty optional
+     */
+    @Nullable
+    Object decode(ValueReader reader) {
+        if (optional) {
+            if (!reader.isOptionalItemPresent()) {
+                return null;
+            }
+            reader = reader.getOptionalItem();
+        }
+
+        return getYdbType().getObject(reader);
+    }
+
+    @Nullable
+    Object decode(Value<?> value) {
+        if (value instanceof OptionalValue optionalValue) {
+            if (!optionalValue.isPresent()) {
+                return null;
+            }
+            value = optionalValue.get();
+        }
+
+        return getYdbType().getObject(value);
+    }
+
+    boolean isOptional() {
+        return optional;
+    }
+
+    /**
+     * @return primitive type of the column, unwrapped from optional, or null for non-primitive types
+     */
+    @Nullable
+    PrimitiveType getPrimitiveType() {
+        return primitiveType;
+    }
+
+    private YdbType getYdbType() {
+        if (ydbType == null) {
+            throw new IllegalArgumentException(String.format("Column '%s' has unsupported type %s", name, type));
+        }
+
+        return ydbType;
+    }
+}
@@ -28,20 +28,22 @@ import tech.ydb.table.values.OptionalType;
 public class YdbColumnMetadata implements ColumnMetadata {
     private final tech.ydb.table.values.Type type;
     private final String name;
+    private final YdbType ydbType;
 
     public YdbColumnMetadata(tech.ydb.table.values.Type type, String name) {
         this.type = type;
         this.name = name;
+        this.ydbType = YdbParameterResolver.resolveResultType(type);
     }
 
     @Override
     public Class<?> getJavaType() {
-        return YdbParameterResolver.resolveResultType(type).getJavaType();
+        return ydbType.getJavaType();
     }
 
     @Override
     public YdbType getType() {
-        return YdbParameterResolver.resolveResultType(type);
+        return ydbType;
     }
 
     @Override
@@ -16,9 +16,8 @@
 
 package tech.ydb.io.r2dbc.result;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -28,10 +27,14 @@ import io.r2dbc.spi.RowMetadata;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.core.publisher.SynchronousSink;
+import reactor.util.annotation.Nullable;
 import tech.ydb.core.Status;
 import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.io.r2dbc.metrics.YdbMetrics;
+import tech.ydb.table.query.stats.QueryStats;
 import tech.ydb.table.result.ResultSetReader;
-import tech.ydb.table.values.Value;
 
 /**
  * @author Egor Kuleshov
@@ -41,53 +44,61 @@ public class YdbResult implements Result {
     public static final YdbResult DDL_RESULT = new YdbResult(Flux.empty(), 0L);
     private static final long DEFAULT_SELECT_ROWS_UPDATED = -1L;
 
-    private final Flux<RowSegment> segments;
+    private final Flux<YdbRow> segments;
     private final long rowsUpdated;
+    @Nullable
+    private final YdbMetrics metrics;
+    @Nullable
+    private final QueryStats queryStats;
 
-    private YdbResult(Flux<RowSegment> segments, long rowsUpdated) {
+    private YdbResult(Flux<YdbRow> segments, long rowsUpdated) {
+        this(segments, rowsUpdated, null, null);
+    }
+
+    private YdbResult(Flux<YdbRow> segments,
+                      long rowsUpdated,
+                      @Nullable YdbMetrics metrics,
+                      @Nullable QueryStats queryStats) {
         this.segments = segments;
         this.rowsUpdated = rowsUpdated;
+        this.metrics = metrics;
+        this.queryStats = queryStats;
     }
 
     public YdbResult(ResultSetReader resultSetReader, boolean failOnTruncated) {
-        this.rowsUpdated = DEFAULT_SELECT_ROWS_UPDATED;
-        this.segments = Flux.generate(
-                YdbRowMetadataState::new,
-                (state, sink) -> {
-                    if (state.getIndex() >= resultSetReader.getRowCount()) {
-                        sink.complete();
-                        return state;
-                    }
-                    resultSetReader.setRowIndex(state.getIndex());
-                    if (failOnTruncated && resultSetReader.isTruncated()) {
-                        sink.error(new UnexpectedResultException("Result is truncated", Status.SUCCESS));
-                        return state;
-                    }
-                    YdbRowMetadataState currentState = state;
-                    if (state.isNotInitialized()) {
-                        currentState = new YdbRowMetadataState(getYdbRowMetadata(resultSetReader));
-                    }
-                    List<Value<?>> values = new ArrayList<>(resultSetReader.getColumnCount());
-                    for (int index = 0; index < resultSetReader.getColumnCount(); index++) {
-                        values.add(resultSetReader.getColumn(index).getValue());
-                    }
-
-                    sink.next(new RowSegment(new YdbRow(currentState.getYdbRowMetadata(), values)));
-                    return currentState.next();
-                });
+        this(resultSetReader, failOnTruncated, null);
     }
 
+    /**
+     * @param metrics records the time spent reading the rows in {@link #map(BiFunction)}, null to not measure
+     */
+    public YdbResult(ResultSetReader resultSetReader, boolean failOnTruncated, @Nullable YdbMetrics metrics) {
+        this(rowSegments(resultSetReader, failOnTruncated), DEFAULT_SELECT_ROWS_UPDATED, metrics, null);
+    }
 
-    private static YdbRowMetadata getYdbRowMetadata(ResultSetReader resultSetReader) {
-        List<YdbColumnMetadata> ydbColumnMetadatas = new ArrayList<>(resultSetReader.getColumnCount());
-        for (int index = 0; index < resultSetReader.getColumnCount(); index++) {
-            ydbColumnMetadatas.add(new YdbColumnMetadata(
-                    resultSetReader.getColumnType(index),
-                    resultSetReader.getColumnName(index)
-            ));
-        }
+    /**
+     * Result of the stream of result set parts, rows are emitted as the parts arrive.
+     *
+     * @param resultSetReaders parts of the result set
+     * @return result with the rows of all parts
+     */
+    public static YdbResult ofStream(Flux<ResultSetReader> resultSetReaders) {
+        return new YdbResult(resultSetReaders.concatMap(resultSetReader -> rowSegments(resultSetReader, false)),
+                DEFAULT_SELECT_ROWS_UPDATED);
+    }
+
+    private static Flux<YdbRow> rowSegments(ResultSetReader resultSetReader, boolean failOnTruncated) {
+        return Flux.defer(() -> {
+            int rowCount = resultSetReader.getRowCount();
+            if (rowCount == 0) {
+                return Flux.empty();
+            }
+            if (failOnTruncated && resultSetReader.isTruncated()) {
+                return Flux.error(new UnexpectedResultException("Result is truncated", Status.SUCCESS));
+            }
 
-        return new YdbRowMetadata(ydbColumnMetadatas);
+            return Flux.generate(new RowCursor(YdbRowMetadataCache.intern(resultSetReader), resultSetReader, rowCount));
+        });
     }
 
     /**
@@ -102,12 +113,46 @@ public class YdbResult implements Result {
 
     @Override
     public <T> Flux<T> map(BiFunction<Row, RowMetadata, ? extends T> biFunction) {
-        return segments.map(rowSegment -> biFunction.apply(rowSegment.row(), rowSegment.row.getMetadata()));
+        if (metrics == null) {
+            return segments.map(row -> biFunction.apply(row, row.getMetadata()));
+        }
+
+        // rows are decoded lazily by the mapping function, so the time spent in it is the decode time
+        return Flux.defer(() -> {
+            long[] decodeNanos = new long[1];
+
+            return segments.<T>map(row -> {
+                        long start = System.nanoTime();
+                        try {
+                            return biFunction.apply(row, row.getMetadata());
+                        } finally {
+                            decodeNanos[0] += System.nanoTime() - start;
+                        }
+                    })
+                    .doFinally(signal -> metrics.recordPhase(YdbMetrics.Phase.DECODE, decodeNanos[0],
+                            signal == SignalType.ON_COMPLETE));
+        });
     }
 
     @Override
     public YdbResult filter(Predicate<Segment> predicate) {
-        return new YdbResult(segments.filter(predicate), rowsUpdated);
+        return new YdbResult(segments.filter(predicate), rowsUpdated, metrics, queryStats);
+    }
+
+    /**
+     * @return server statistics of the query which returned this result or null if they were not collected
+     */
+    @Nullable
+    public QueryStats getQueryStats() {
+        return queryStats;
+    }
+
+    /**
+     * @param queryStats server statistics of the query
+     * @return copy of this result with the statistics
+     */
+    public YdbResult withQueryStats(QueryStats queryStats) {
+        return new YdbResult(segments, rowsUpdated, metrics, queryStats);
     }
 
     @Override
@@ -115,60 +160,27 @@ public class YdbResult implements Result {
         return segments.flatMap(function);
     }
 
-    private static class YdbRowMetadataState {
+    /**
+     * Emits lazy rows of the result set one by one, without copying the column values.
+     */
+    private static final class RowCursor implements Consumer<SynchronousSink<YdbRow>> {
         private final YdbRowMetadata ydbRowMetadata;
-        private final int index;
-
-        public YdbRowMetadataState() {
-            this.ydbRowMetadata = null;
-            this.index = 0;
-        }
+        private final ResultSetReader resultSetReader;
+        private final int rowCount;
+        private int rowIndex;
 
-        public YdbRowMetadataState(YdbRowMetadata ydbRowMetadata) {
-            this(ydbRowMetadata, 0);
-        }
-
-        public YdbRowMetadataState(YdbRowMetadata ydbRowMetadata, int index) {
+        private RowCursor(YdbRowMetadata ydbRowMetadata, ResultSetReader resultSetReader, int rowCount) {
             this.ydbRowMetadata = ydbRowMetadata;
-            this.index = index;
-        }
-
-        public boolean isNotInitialized() {
-            return ydbRowMetadata == null;
-        }
-
-        public YdbRowMetadata getYdbRowMetadata() {
-            if (ydbRowMetadata == null) {
-                throw new IllegalStateException("State in not initialized");
-            }
-
-            return ydbRowMetadata;
-        }
-
-        public int getIndex() {
-            return index;
-        }
-
-        public YdbRowMetadataState next() {
-            if (ydbRowMetadata == null) {
-                throw new IllegalStateException("State in not initialized");
-            }
-
-            return new YdbRowMetadataState(ydbRowMetadata, index + 1);
-        }
-    }
-
-    private static class RowSegment implements Result.RowSegment {
-
-        private final YdbRow row;
-
-        RowSegment(YdbRow row) {
-            this.row = row;
+            this.resultSetReader = resultSetReader;
+            this.rowCount = rowCount;
         }
 
         @Override
-        public Row row() {
-            return row;
+        public void accept(SynchronousSink<YdbRow> sink) {
+            sink.next(new YdbRow(ydbRowMetadata, resultSetReader, rowIndex++));
+            if (rowIndex == rowCount) {
+                sink.complete();
+            }
         }
     }
 }
@@ -16,23 +16,63 @@
 
 package tech.ydb.io.r2dbc.result;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import io.r2dbc.spi.Result;
 import io.r2dbc.spi.Row;
 import io.r2dbc.spi.RowMetadata;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.ValueReader;
 import tech.ydb.table.values.OptionalValue;
+import tech.ydb.table.values.PrimitiveType;
 import tech.ydb.table.values.Value;
 
 /**
+ * Row of a result set. A row read from a result set keeps the reader and the row index
+ * and decodes a column only when it is requested, so the row is valid only while the result is consumed.
+ *
  * @author Egor Kuleshov
  */
-public final class YdbRow implements Row {
+public final class YdbRow implements Row, Result.RowSegment {
     private final YdbRowMetadata ydbRowMetadata;
     private final List<Value<?>> values;
+    private final ResultSetReader resultSetReader;
+    private final int rowIndex;
 
     public YdbRow(YdbRowMetadata ydbRowMetadata, List<Value<?>> values) {
         this.ydbRowMetadata = ydbRowMetadata;
         this.values = values;
+        this.resultSetReader = null;
+        this.rowIndex = -1;
+    }
+
+    YdbRow(YdbRowMetadata ydbRowMetadata, ResultSetReader resultSetReader, int rowIndex) {
+        this.ydbRowMetadata = ydbRowMetadata;
+        this.values = null;
+        this.resultSetReader = resultSetReader;
+        this.rowIndex = rowIndex;
+    }
+
+    /**
+     * @return row with the values read from the result set, valid after the result is consumed
+     */
+    public YdbRow materialize() {
+        if (resultSetReader == null) {
+            return this;
+        }
+
+        List<Value<?>> rowValues = new ArrayList<>(resultSetReader.getColumnCount());
+        for (int index = 0; index < resultSetReader.getColumnCount(); index++) {
+            rowValues.add(getReader(index).getValue());
+        }
+
+        return new YdbRow(ydbRowMetadata, rowValues);
+    }
+
+    @Override
+    public Row row() {
+        return this;
     }
 
     @Override
@@ -42,20 +82,154 @@ public final class YdbRow implements Row {
 
     @Override
     public <T> T get(int index, Class<T> type) {
-        Value<?> value = values.get(index);
-        if (value instanceof OptionalValue) {
-            if (!value.asOptional().isPresent()) {
-                return null;
-            } else {
-                value = value.asOptional().get();
-            }
+        YdbColumnDecoder decoder = ydbRowMetadata.getDecoder(index);
+        if (resultSetReader == null) {
+            return type.cast(decoder.decode(values.get(index)));
         }
 
-        return type.cast(ydbRowMetadata.getColumnMetadata(index).getType().getObject(value));
+        return type.cast(decoder.decode(getReader(index)));
     }
 
     @Override
     public <T> T get(String name, Class<T> type) {
         return get(ydbRowMetadata.getColumnIndex(name), type);
     }
+
+    public boolean isNull(int index) {
+        if (resultSetReader == null) {
+            Value<?> value = values.get(index);
+
+            return value instanceof OptionalValue && !value.asOptional().isPresent();
+        }
+
+        return ydbRowMetadata.getDecoder(index).isOptional() && !getReader(index).isOptionalItemPresent();
+    }
+
+    /**
+     * Read a Bool column without boxing.
+     *
+     * @throws IllegalStateException if the value is null
+     */
+    public boolean getBoolean(int index) {
+        if (resultSetReader == null) {
+            return requireNonNull(index, get(index, Boolean.class));
+        }
+
+        ValueReader reader = getPresentReader(index);
+        if (getPrimitiveType(index) == PrimitiveType.Bool) {
+            return reader.getBool();
+        }
+
+        throw unsupportedType(index, "boolean");
+    }
+
+    /**
+     * Read an Int8, Int16, Int32, Uint8 or Uint16 column without boxing.
+     *
+     * @throws IllegalStateException if the value is null
+     */
+    public int getInt(int index) {
+        if (resultSetReader == null) {
+            return requireNonNull(index, get(index, Number.class)).intValue();
+        }
+
+        ValueReader reader = getPresentReader(index);
+        return switch (getPrimitiveType(index)) {
+            case Int8 -> reader.getInt8();
+            case Int16 -> reader.getInt16();
+            case Int32 -> reader.getInt32();
+            case Uint8 -> reader.getUint8();
+            case Uint16 -> reader.getUint16();
+            default -> throw unsupportedType(index, "int");
+        };
+    }
+
+    /**
+     * Read an integer column without boxing.
+     *
+     * @throws IllegalStateException if the value is null
+     */
+    public long getLong(int index) {
+        if (resultSetReader == null) {
+            return requireNonNull(index, get(index, Number.class)).longValue();
+        }
+
+        ValueReader reader = getPresentReader(index);
+        return switch (getPrimitiveType(index)) {
+            case Int8 -> reader.getInt8();
+            case Int16 -> reader.getInt16();
+            case Int32 -> reader.getInt32();
+            case Int64 -> reader.getInt64();
+            case Uint8 -> reader.getUint8();
+            case Uint16 -> reader.getUint16();
+            case Uint32 -> reader.getUint32();
+            case Uint64 -> reader.getUint64();
+            default -> throw unsupportedType(index, "long");
+        };
+    }
+
+    /**
+     * Read a Float or Double column without boxing.
+     *
+     * @throws IllegalStateException if the value is null
+     */
+    public double getDouble(int index) {
+        if (resultSetReader == null) {
+            return requireNonNull(index, get(index, Number.class)).doubleValue();
+        }
+
+        ValueReader reader = getPresentReader(index);
+        return switch (getPrimitiveType(index)) {
+            case Float -> reader.getFloat();
+            case Double -> reader.getDouble();
+            default -> throw unsupportedType(index, "double");
+        };
+    }
+
+    private ValueReader getReader(int index) {
+        resultSetReader.setRowIndex(rowIndex);
+
+        return resultSetReader.getColumn(index);
+    }
+
+    private ValueReader getPresentReader(int index) {
+        ValueReader reader = getReader(index);
+        if (!ydbRowMetadata.getDecoder(index).isOptional()) {
+            return reader;
+        }
+        if (!reader.isOptionalItemPresent()) {
+            throw nullValue(index);
+        }
+
+        return reader.getOptionalItem();
+    }
+
+    private PrimitiveType getPrimitiveType(int index) {
+        PrimitiveType primitiveType = ydbRowMetadata.getDecoder(index).getPrimitiveType();
+        if (primitiveType == null) {
+            throw unsupportedType(index, "primitive");
+        }
+
+        return primitiveType;
+    }
+
+    private <T> T requireNonNull(int index, T value) {
+        if (value == null) {
+            throw nullValue(index);
+        }
+
+        return value;
+    }
+
+    private IllegalStateException nullValue(int index) {
+        return new IllegalStateException(String.format("Column '%s' is null",
+                ydbRowMetadata.getColumnMetadata(index).getName()));
+    }
+
+    private IllegalArgumentException unsupportedType(int index, String javaType) {
+        YdbColumnMetadata columnMetadata = ydbRowMetadata.getColumnMetadata(index);
+
+        return new IllegalArgumentException(String.format("Column '%s' of type %s cannot be read as %s",
+                columnMetadata.getName(), columnMetadata.getNativeTypeMetadata(), javaType));
+    }
 }
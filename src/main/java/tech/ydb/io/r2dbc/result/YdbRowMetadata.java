@@ -29,12 +29,17 @@ import java.util.Objects;
 public final class YdbRowMetadata implements RowMetadata {
     private final List<YdbColumnMetadata> ydbColumnMetadatas;
     private final Map<String, Integer> nameToIndex;
+    private final YdbColumnDecoder[] decoders;
 
     public YdbRowMetadata(List<YdbColumnMetadata> ydbColumnMetadatas) {
         this.ydbColumnMetadatas = ydbColumnMetadatas;
         this.nameToIndex = new HashMap<>(ydbColumnMetadatas.size());
+        this.decoders = new YdbColumnDecoder[ydbColumnMetadatas.size()];
         for (int index = 0; index < ydbColumnMetadatas.size(); index++) {
-            nameToIndex.put(ydbColumnMetadatas.get(index).getName(), index);
+            YdbColumnMetadata ydbColumnMetadata = ydbColumnMetadatas.get(index);
+            nameToIndex.put(ydbColumnMetadata.getName(), index);
+            decoders[index] = new YdbColumnDecoder(ydbColumnMetadata.getName(),
+                    ydbColumnMetadata.getNativeTypeMetadata());
         }
     }
 
@@ -61,6 +66,14 @@ public final class YdbRowMetadata implements RowMetadata {
         return nameToIndex.containsKey(columnName);
     }
 
+    /**
+     * @param index column index
+     * @return decoder of the column resolved on the metadata creation
+     */
+    YdbColumnDecoder getDecoder(int index) {
+        return decoders[index];
+    }
+
     public int getColumnIndex(String name) {
         validateColumnName(name);
 
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.result;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+import com.google.common.cache.CacheBuilder;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.Type;
+
+/**
+ * Interning cache of row metadata keyed by the column names and types of a result set.
+ * Result sets with the same schema share one {@link YdbRowMetadata} with its name index and column decoders.
+ * The cache is bounded and holds the metadata weakly, so unused schemas are collected.
+ *
+ * @author Egor Kuleshov
+ */
+final class YdbRowMetadataCache {
+    private static final int MAX_CACHED_SCHEMAS = 1024;
+
+    private static final ConcurrentMap<ColumnsKey, YdbRowMetadata> CACHE = CacheBuilder.newBuilder()
+            .maximumSize(MAX_CACHED_SCHEMAS)
+            .weakValues()
+            .<ColumnsKey, YdbRowMetadata>build()
+            .asMap();
+
+    private YdbRowMetadataCache() {
+    }
+
+    static YdbRowMetadata intern(ResultSetReader resultSetReader) {
+        int columnCount = resultSetReader.getColumnCount();
+        String[] names = new String[columnCount];
+        Type[] types = new Type[columnCount];
+        for (int index = 0; index < columnCount; index++) {
+            names[index] = resultSetReader.getColumnName(index);
+            types[index] = resultSetReader.getColumnType(index);
+        }
+
+        return CACHE.computeIfAbsent(new ColumnsKey(names, types), YdbRowMetadataCache::create);
+    }
+
+    private static YdbRowMetadata create(ColumnsKey columnsKey) {
+        YdbColumnMetadata[] ydbColumnMetadatas = new YdbColumnMetadata[columnsKey.names.length];
+        for (int index = 0; index < ydbColumnMetadatas.length; index++) {
+            ydbColumnMetadatas[index] = new YdbColumnMetadata(columnsKey.types[index], columnsKey.names[index]);
+        }
+
+        // shared between results, so the columns list is immutable
+        return new YdbRowMetadata(List.of(ydbColumnMetadatas));
+    }
+
+    private static final class ColumnsKey {
+        private final String[] names;
+        private final Type[] types;
+        private final int hashCode;
+
+        private ColumnsKey(String[] names, Type[] types) {
+            this.names = names;
+            this.types = types;
+            this.hashCode = 31 * Arrays.hashCode(names) + Arrays.hashCode(types);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            ColumnsKey that = (ColumnsKey) o;
+            return hashCode == that.hashCode && Arrays.equals(names, that.names) && Arrays.equals(types, that.types);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
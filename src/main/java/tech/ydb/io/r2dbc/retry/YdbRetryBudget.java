@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.retry;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket limiting the retries of all operations sharing the budget, so an outage does not turn into
+ * a retry storm. Each retry takes a token, each successful operation returns a part of a token.
+ *
+ * @author Egor Kuleshov
+ */
+public final class YdbRetryBudget {
+    private static final long TOKEN = 1000;
+    private static final long SUCCESS_REFILL = TOKEN / 10;
+
+    private final long capacity;
+    private final AtomicLong tokens;
+
+    /**
+     * @param maxTokens number of retries allowed without successful operations
+     */
+    public YdbRetryBudget(int maxTokens) {
+        this.capacity = maxTokens * TOKEN;
+        this.tokens = new AtomicLong(capacity);
+    }
+
+    /**
+     * @return true if the retry is allowed, the token is taken
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - TOKEN));
+
+        return true;
+    }
+
+    public void onSuccess() {
+        tokens.accumulateAndGet(SUCCESS_REFILL, (current, refill) -> Math.min(capacity, current + refill));
+    }
+
+    /**
+     * @return number of retries allowed now
+     */
+    public long available() {
+        return tokens.get() / TOKEN;
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+import tech.ydb.core.StatusCode;
+import tech.ydb.core.UnexpectedResultException;
+
+/**
+ * Re-subscribes operations failed with transient YDB statuses.
+ * Session errors are retried at once on a new session, overloaded statuses with the slow jittered backoff
+ * and the other retryable statuses with the fast jittered backoff. Statuses with an unknown outcome of the
+ * operation are retried only for idempotent operations. All retries take tokens of the shared budget.
+ *
+ * @author Egor Kuleshov
+ */
+public final class YdbRetryExecutor {
+    private final int maxRetries;
+    private final Duration fastBackoff;
+    private final Duration slowBackoff;
+    private final Duration maxBackoff;
+    private final YdbRetryBudget budget;
+
+    public YdbRetryExecutor(int maxRetries, Duration fastBackoff, Duration slowBackoff, Duration maxBackoff,
+                            YdbRetryBudget budget) {
+        this.maxRetries = maxRetries;
+        this.fastBackoff = fastBackoff;
+        this.slowBackoff = slowBackoff;
+        this.maxBackoff = maxBackoff;
+        this.budget = budget;
+    }
+
+    /**
+     * @param source operation subscribed again on each retry, must not emit values before it fails
+     * @param idempotent operation can be repeated when its outcome is unknown
+     * @return operation with retries
+     */
+    public <T> Mono<T> retry(Mono<T> source, boolean idempotent) {
+        return source.retryWhen(retrySpec(idempotent))
+                .doOnSuccess(unused -> budget.onSuccess());
+    }
+
+    /**
+     * @param source operation subscribed again on each retry, must not emit values before it fails
+     * @param idempotent operation can be repeated when its outcome is unknown
+     * @return operation with retries
+     */
+    public <T> Flux<T> retry(Flux<T> source, boolean idempotent) {
+        return source.retryWhen(retrySpec(idempotent))
+                .doOnComplete(budget::onSuccess);
+    }
+
+    public YdbRetryBudget getBudget() {
+        return budget;
+    }
+
+    private Retry retrySpec(boolean idempotent) {
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            if (!(failure instanceof UnexpectedResultException unexpected) || signal.totalRetries() >= maxRetries) {
+                return Mono.error(failure);
+            }
+
+            StatusCode code = unexpected.getStatus().getCode();
+            if (!code.isRetryable(idempotent) || !budget.tryAcquire()) {
+                return Mono.error(failure);
+            }
+
+            Duration delay = backoff(code, signal.totalRetries());
+
+            return delay.isZero() ? Mono.just(signal.totalRetries()) : Mono.delay(delay);
+        }));
+    }
+
+    /**
+     * @return delay before the retry, half of the exponential delay is random
+     */
+    Duration backoff(StatusCode code, long retry) {
+        Duration base = switch (code) {
+            case BAD_SESSION, SESSION_EXPIRED, SESSION_BUSY -> Duration.ZERO;
+            case OVERLOADED, CLIENT_RESOURCE_EXHAUSTED -> slowBackoff;
+            default -> fastBackoff;
+        };
+        if (base.isZero()) {
+            return base;
+        }
+
+        long delay = Math.min(maxBackoff.toMillis(), base.toMillis() << Math.min(retry, 16));
+        long half = delay / 2;
+
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(half + 1));
+    }
+}
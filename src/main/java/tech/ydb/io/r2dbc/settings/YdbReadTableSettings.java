@@ -0,0 +1,125 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.settings;
+
+import java.util.List;
+
+import reactor.util.annotation.Nullable;
+import tech.ydb.table.description.KeyBound;
+import tech.ydb.table.values.TupleValue;
+
+/**
+ * Settings of reading a whole table or a key range of it with the ReadTable RPC.
+ *
+ * @author Egor Kuleshov
+ */
+public class YdbReadTableSettings {
+    private List<String> columns = List.of();
+    private KeyBound fromKey;
+    private KeyBound toKey;
+    private boolean ordered;
+    private int partitionConcurrency = 1;
+
+    /**
+     * @param columns columns to read, all columns are read if empty
+     * @return these settings
+     */
+    public YdbReadTableSettings columns(List<String> columns) {
+        this.columns = List.copyOf(columns);
+
+        return this;
+    }
+
+    public YdbReadTableSettings columns(String... columns) {
+        return columns(List.of(columns));
+    }
+
+    /**
+     * @param key lower bound of the primary key
+     * @param inclusive whether the bound is included
+     * @return these settings
+     */
+    public YdbReadTableSettings fromKey(TupleValue key, boolean inclusive) {
+        this.fromKey = new KeyBound(key, inclusive);
+
+        return this;
+    }
+
+    /**
+     * @param key upper bound of the primary key
+     * @param inclusive whether the bound is included
+     * @return these settings
+     */
+    public YdbReadTableSettings toKey(TupleValue key, boolean inclusive) {
+        this.toKey = new KeyBound(key, inclusive);
+
+        return this;
+    }
+
+    /**
+     * @param ordered read rows in the primary key order
+     * @return these settings
+     */
+    public YdbReadTableSettings ordered(boolean ordered) {
+        this.ordered = ordered;
+
+        return this;
+    }
+
+    /**
+     * Read the table partitions in parallel, at most the given number at a time.
+     * Splitting is applied only to reads without key bounds. Ordered reads still emit rows in the key order.
+     *
+     * @param partitionConcurrency maximum number of partitions read at a time, 1 disables splitting
+     * @return these settings
+     */
+    public YdbReadTableSettings partitionConcurrency(int partitionConcurrency) {
+        if (partitionConcurrency < 1) {
+            throw new IllegalArgumentException("Expected positive partition concurrency, but found "
+                    + partitionConcurrency);
+        }
+        this.partitionConcurrency = partitionConcurrency;
+
+        return this;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    @Nullable
+    public KeyBound getFromKey() {
+        return fromKey;
+    }
+
+    @Nullable
+    public KeyBound getToKey() {
+        return toKey;
+    }
+
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    public int getPartitionConcurrency() {
+        return partitionConcurrency;
+    }
+
+    public boolean isPartitioned() {
+        return partitionConcurrency > 1 && fromKey == null && toKey == null;
+    }
+}
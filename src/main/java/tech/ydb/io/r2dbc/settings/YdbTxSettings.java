@@ -91,6 +91,14 @@ public class YdbTxSettings {
         this.readOnly = readOnly;
     }
 
+    /**
+     * @return read-only at the stale or snapshot isolation level, the reads may not see the latest writes
+     */
+    public boolean isStaleTolerant() {
+        return readOnly && (isolationLevel == YdbIsolationLevelEnum.STALE_READ_ONLY
+                || isolationLevel == YdbIsolationLevelEnum.SNAPSHOT_READ_ONLY);
+    }
+
     public boolean isAutoCommit() {
         return autoCommit;
     }
@@ -17,11 +17,47 @@
 package tech.ydb.io.r2dbc.state;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.annotation.Nullable;
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.io.r2dbc.OperationsConfig;
 import tech.ydb.io.r2dbc.YdbContext;
+import tech.ydb.io.r2dbc.YdbPreparedQueryCache;
+import tech.ydb.io.r2dbc.metrics.YdbMetrics;
+import tech.ydb.io.r2dbc.metrics.YdbMetricsRecorder;
+import tech.ydb.io.r2dbc.metrics.YdbQueryStatsListener;
+import tech.ydb.io.r2dbc.metrics.YdbSlowQueryLog;
+import tech.ydb.io.r2dbc.query.OperationType;
+import tech.ydb.io.r2dbc.result.YdbResult;
+import tech.ydb.io.r2dbc.settings.YdbReadTableSettings;
 import tech.ydb.io.r2dbc.settings.YdbTxSettings;
+import tech.ydb.io.r2dbc.tracing.YdbTracing;
+import tech.ydb.io.r2dbc.util.ReadStreams;
+import tech.ydb.io.r2dbc.util.ResultExtractor;
+import tech.ydb.io.r2dbc.util.Sampling;
+import tech.ydb.table.Session;
+import tech.ydb.table.description.KeyBound;
+import tech.ydb.table.description.KeyRange;
+import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.query.ReadTablePart;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.settings.BulkUpsertSettings;
+import tech.ydb.table.settings.DescribeTableSettings;
+import tech.ydb.table.settings.ExecuteDataQuerySettings;
+import tech.ydb.table.settings.ExecuteSchemeQuerySettings;
+import tech.ydb.table.settings.ReadTableSettings;
 import tech.ydb.table.settings.RequestSettings;
+import tech.ydb.table.transaction.TxControl;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.TupleValue;
+import tech.ydb.table.values.Value;
 
 /**
  * @author Egor Kuleshov
@@ -49,6 +85,146 @@ public abstract class AbstractConnectionState implements YdbConnectionState {
         return ydbTxSettings;
     }
 
+    @Override
+    public Flux<ResultSetReader> executeReadTable(String table, YdbReadTableSettings settings) {
+        if (!settings.isPartitioned()) {
+            return readTable(table, settings, null);
+        }
+
+        DescribeTableSettings describeTableSettings = withDeadlineTimeout(new DescribeTableSettings());
+        describeTableSettings.setIncludeShardKeyBounds(true);
+
+        return fluxWithPooledSession(session -> Mono.fromFuture(session.describeTable(table, describeTableSettings))
+                .flatMap(ResultExtractor::extract)
+                .flux())
+                .flatMap(tableDescription -> {
+                    Flux<Flux<ResultSetReader>> partitions = Flux.fromIterable(tableDescription.getKeyRanges())
+                            .map(keyRange -> readTable(table, settings, keyRange));
+
+                    return settings.isOrdered()
+                            ? Flux.mergeSequential(partitions, settings.getPartitionConcurrency(), 1)
+                            : Flux.merge(partitions, settings.getPartitionConcurrency(), 1);
+                });
+    }
+
+    /**
+     * Apply function to a pooled session, the session is closed on completion, error or cancel of the flux.
+     * Unlike draining on cancel, the streams are cancelled and not read until the end.
+     */
+    protected <T> Flux<T> fluxWithPooledSession(Function<Session, Flux<T>> function) {
+        Mono<Session> acquire = YdbMetricsRecorder.timed(Mono.defer(() -> Mono.fromFuture(ydbContext.getSession()))
+                        .flatMap(sessionResult -> ResultExtractor.extract(sessionResult, "Error creating session")),
+                ydbContext.getMetrics(), YdbMetrics.Phase.ACQUIRE);
+
+        return Flux.usingWhen(
+                YdbTracing.traced(acquire, ydbContext.getTracer(), YdbTracing.SESSION_ACQUIRE),
+                function,
+                session -> Mono.fromRunnable(session::close)
+        );
+    }
+
+    private Flux<ResultSetReader> readTable(String table, YdbReadTableSettings settings, @Nullable KeyRange keyRange) {
+        ReadTableSettings.Builder readTableSettings = ReadTableSettings.newBuilder()
+                .columns(settings.getColumns())
+                .orderedRead(settings.isOrdered());
+        if (!statementTimeout.isZero() && !statementTimeout.isNegative()) {
+            readTableSettings.withRequestTimeout(statementTimeout);
+        }
+
+        KeyBound fromKey = settings.getFromKey();
+        KeyBound toKey = settings.getToKey();
+        if (keyRange != null) {
+            fromKey = keyRange.getFrom().orElse(null);
+            toKey = keyRange.getTo().orElse(null);
+        }
+        if (fromKey != null) {
+            readTableSettings.fromKey(toTupleValue(fromKey.getValue()), fromKey.isInclusive());
+        }
+        if (toKey != null) {
+            readTableSettings.toKey(toTupleValue(toKey.getValue()), toKey.isInclusive());
+        }
+
+        return YdbTracing.traced(fluxWithPooledSession(session -> ReadStreams.toFlux(
+                () -> session.executeReadTable(table, readTableSettings.build()),
+                "Read table failed",
+                ydbContext.getOperationsConfig().getStreamMaxBufferedParts()
+        ).map(ReadTablePart::getResultSetReader)), ydbContext.getTracer(), YdbTracing.RESULT_STREAM);
+    }
+
+    private static TupleValue toTupleValue(Value<?> value) {
+        return value instanceof TupleValue tupleValue ? tupleValue : TupleValue.of(value);
+    }
+
+    /**
+     * Execute a data query on the session, through the prepared query cache if it is enabled.
+     */
+    protected CompletableFuture<Result<DataQueryResult>> executeDataQuery(Session session,
+                                                                          String yql,
+                                                                          TxControl<?> txControl,
+                                                                          Params params) {
+        YdbMetrics metrics = ydbContext.getMetrics();
+        long start = metrics == null ? 0 : System.nanoTime();
+        ExecuteDataQuerySettings settings = withQueryStats(withStatementTimeout(new ExecuteDataQuerySettings()));
+        YdbPreparedQueryCache preparedQueryCache = ydbContext.getPreparedQueryCache();
+        YdbSlowQueryLog slowQueryLog = ydbContext.getSlowQueryLog();
+        boolean slowQuerySampled = slowQueryLog != null && slowQueryLog.sampleDataQuery();
+        long slowQueryStart = slowQuerySampled ? System.nanoTime() : 0;
+        CompletableFuture<Result<DataQueryResult>> result = preparedQueryCache != null
+                ? preparedQueryCache.executeDataQuery(session, yql, txControl, params, settings)
+                : session.executeDataQuery(yql, txControl, params, settings);
+        if (slowQuerySampled) {
+            result = result.whenComplete((dataQueryResult, error) -> {
+                if (dataQueryResult != null) {
+                    slowQueryLog.onDataQuery(slowQueryStart, session.getId(), yql, txControl, params, dataQueryResult);
+                }
+            });
+        }
+
+        return YdbMetricsRecorder.timed(result, metrics, YdbMetrics.Phase.EXECUTE, start);
+    }
+
+    /**
+     * Extract the results of the data query, with the decode time of the rows recorded if metrics are enabled.
+     * Collected statistics are attached to the results and passed to the listener.
+     */
+    protected Flux<YdbResult> extractResults(String yql,
+                                             Result<DataQueryResult> dataQueryResult,
+                                             List<OperationType> operationTypes) {
+        YdbQueryStatsListener queryStatsListener = ydbContext.getOperationsConfig().getQueryStatsListener();
+        if (queryStatsListener != null && dataQueryResult.isSuccess() && dataQueryResult.getValue().hasQueryStats()) {
+            queryStatsListener.onQueryStats(yql, dataQueryResult.getValue().getQueryStats());
+        }
+
+        return ResultExtractor.extract(dataQueryResult,
+                operationTypes,
+                ydbContext.getOperationsConfig().getFailOnTruncatedResult(),
+                ydbContext.getMetrics());
+    }
+
+    /**
+     * Execute a scheme query on the session, logged to the slow query log if it is enabled.
+     */
+    protected CompletableFuture<Status> executeSchemeQuery(Session session, String yql) {
+        ExecuteSchemeQuerySettings settings = withStatementTimeout(new ExecuteSchemeQuerySettings());
+        YdbSlowQueryLog slowQueryLog = ydbContext.getSlowQueryLog();
+        if (slowQueryLog == null || !slowQueryLog.sampleSchemeQuery()) {
+            return session.executeSchemeQuery(yql, settings);
+        }
+
+        long start = System.nanoTime();
+
+        return session.executeSchemeQuery(yql, settings).whenComplete((result, error) -> slowQueryLog.onSchemeQuery(start, session.getId(), yql,
+                error == null && result.isSuccess()));
+    }
+
+    /**
+     * Execute a bulk upsert on the session, the session is not closed.
+     */
+    protected Mono<Void> executeBulkUpsert(Session session, String table, ListValue rows) {
+        return Mono.fromFuture(session.executeBulkUpsert(table, rows, withStatementTimeout(new BulkUpsertSettings())))
+                .flatMap(ResultExtractor::extract);
+    }
+
     protected  <T extends RequestSettings<?>> T withStatementTimeout(T settings) {
         if (!statementTimeout.isZero() && !statementTimeout.isNegative()) {
             settings.setOperationTimeout(statementTimeout);
@@ -58,6 +234,18 @@ public abstract class AbstractConnectionState implements YdbConnectionState {
         return settings;
     }
 
+    /**
+     * Collect the statistics of the sampled part of the data queries, if the statistics are enabled.
+     */
+    private ExecuteDataQuerySettings withQueryStats(ExecuteDataQuerySettings settings) {
+        OperationsConfig operationsConfig = ydbContext.getOperationsConfig();
+        if (operationsConfig.isQueryStats() && Sampling.sample(operationsConfig.getQueryStatsSamplePercent())) {
+            settings.setCollectStats(operationsConfig.getQueryStatsMode());
+        }
+
+        return settings;
+    }
+
     protected  <T extends RequestSettings<?>> T withDeadlineTimeout(T settings) {
         if (!ydbContext.getDeadlineTimeout().isZero() && !ydbContext.getDeadlineTimeout().isNegative()) {
             settings.setOperationTimeout(ydbContext.getDeadlineTimeout());
@@ -23,10 +23,13 @@ import io.r2dbc.spi.IsolationLevel;
 import io.r2dbc.spi.ValidationDepth;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import tech.ydb.io.r2dbc.settings.YdbReadTableSettings;
 import tech.ydb.io.r2dbc.settings.YdbTxSettings;
 import tech.ydb.io.r2dbc.query.OperationType;
 import tech.ydb.io.r2dbc.result.YdbResult;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.ListValue;
 
 /**
  * Implementation state of the closed connection.
@@ -46,11 +49,32 @@ public class CloseState implements YdbConnectionState {
         return Mono.error(new IllegalStateException(CLOSED_STATE_MESSAGE));
     }
 
+    @Override
+    public Mono<NextStateResult<Flux<YdbResult>>> executeDataQueryAndCommit(String yql, Params params,
+                                                                            List<OperationType> operationTypes) {
+        return Mono.error(new IllegalStateException(CLOSED_STATE_MESSAGE));
+    }
+
     @Override
     public Flux<YdbResult> executeSchemeQuery(String yql) {
         return Flux.error(new IllegalStateException(CLOSED_STATE_MESSAGE));
     }
 
+    @Override
+    public Flux<YdbResult> executeScanQuery(String yql, Params params) {
+        return Flux.error(new IllegalStateException(CLOSED_STATE_MESSAGE));
+    }
+
+    @Override
+    public Flux<ResultSetReader> executeReadTable(String table, YdbReadTableSettings settings) {
+        return Flux.error(new IllegalStateException(CLOSED_STATE_MESSAGE));
+    }
+
+    @Override
+    public Mono<Void> executeBulkUpsert(String table, ListValue rows) {
+        return Mono.error(new IllegalStateException(CLOSED_STATE_MESSAGE));
+    }
+
     @Override
     public Mono<InsideTransactionState> beginTransaction(YdbTxSettings ydbTxSettings) {
         return Mono.error(new IllegalStateException(CLOSED_STATE_MESSAGE));
@@ -24,18 +24,22 @@ import io.r2dbc.spi.IsolationLevel;
 import io.r2dbc.spi.ValidationDepth;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.annotation.Nullable;
 import tech.ydb.io.r2dbc.YdbContext;
+import tech.ydb.io.r2dbc.metrics.YdbMetrics;
+import tech.ydb.io.r2dbc.metrics.YdbMetricsRecorder;
 import tech.ydb.io.r2dbc.settings.YdbTxSettings;
 import tech.ydb.io.r2dbc.query.OperationType;
 import tech.ydb.io.r2dbc.result.YdbResult;
+import tech.ydb.io.r2dbc.tracing.YdbTracing;
 import tech.ydb.io.r2dbc.util.ResultExtractor;
 import tech.ydb.table.Session;
 import tech.ydb.table.query.Params;
 import tech.ydb.table.settings.CommitTxSettings;
-import tech.ydb.table.settings.ExecuteDataQuerySettings;
 import tech.ydb.table.settings.KeepAliveSessionSettings;
 import tech.ydb.table.settings.RollbackTxSettings;
 import tech.ydb.table.transaction.TxControl;
+import tech.ydb.table.values.ListValue;
 
 /**
  * Implementation of the connection state in an open transaction.
@@ -43,12 +47,16 @@ import tech.ydb.table.transaction.TxControl;
  * @author Egor Kuleshov
  */
 public final class InsideTransactionState extends AbstractConnectionState implements YdbConnectionState {
-    private static final String SCHEME_QUERY_INSIDE_TRANSACTION = "Scheme query cannot be executed inside active "
+    static final String SCHEME_QUERY_INSIDE_TRANSACTION = "Scheme query cannot be executed inside active "
             + "transaction. This behavior may be changed by property schemeQueryTxMode";
+    static final String SCAN_QUERY_INSIDE_TRANSACTION = "Scan query cannot be executed inside active "
+            + "transaction";
 
     private final String id;
     private final Session session;
     private final TxControl.TxId txControl;
+    @Nullable
+    private final StickySession stickySession;
 
     public InsideTransactionState(YdbContext ydbContext, String id, Session session, YdbTxSettings ydbTxSettings) {
         super(ydbContext, ydbTxSettings, ydbContext.getStatementTimeout());
@@ -56,6 +64,7 @@ public final class InsideTransactionState extends AbstractConnectionState implem
         this.session = session;
         this.ydbTxSettings = ydbTxSettings;
         this.txControl = TxControl.id(id).setCommitTx(false);
+        this.stickySession = null;
     }
 
     public InsideTransactionState(YdbContext ydbContext,
@@ -63,18 +72,41 @@ public final class InsideTransactionState extends AbstractConnectionState implem
                                   Session session,
                                   YdbTxSettings ydbTxSettings,
                                   Duration statementTimeout) {
+        this(ydbContext, id, session, ydbTxSettings, statementTimeout, null);
+    }
+
+    InsideTransactionState(YdbContext ydbContext,
+                           String id,
+                           Session session,
+                           YdbTxSettings ydbTxSettings,
+                           Duration statementTimeout,
+                           @Nullable StickySession stickySession) {
         super(ydbContext, ydbTxSettings, statementTimeout);
         this.id = id;
         this.session = session;
         this.txControl = TxControl.id(id).setCommitTx(false);
+        this.stickySession = stickySession;
     }
 
     @Override
     public Mono<NextStateResult<Flux<YdbResult>>> executeDataQuery(String yql,
                                                                    Params params,
                                                                    List<OperationType> operationTypes) {
-        return Mono.fromFuture(session.executeDataQuery(yql, txControl, params,
-                        withStatementTimeout(new ExecuteDataQuerySettings())))
+        return executeDataQuery(yql, params, operationTypes, txControl);
+    }
+
+    @Override
+    public Mono<NextStateResult<Flux<YdbResult>>> executeDataQueryAndCommit(String yql,
+                                                                            Params params,
+                                                                            List<OperationType> operationTypes) {
+        return executeDataQuery(yql, params, operationTypes, TxControl.id(id).setCommitTx(true));
+    }
+
+    private Mono<NextStateResult<Flux<YdbResult>>> executeDataQuery(String yql,
+                                                                    Params params,
+                                                                    List<OperationType> operationTypes,
+                                                                    TxControl<?> txControl) {
+        return Mono.fromFuture(executeDataQuery(session, yql, txControl, params))
                 .map(dataQueryResult -> {
                     String txId = dataQueryResult.getValue().getTxId();
                     YdbConnectionState nextState = this;
@@ -84,18 +116,16 @@ public final class InsideTransactionState extends AbstractConnectionState implem
                                 txId,
                                 session,
                                 ydbTxSettings,
-                                statementTimeout
+                                statementTimeout,
+                                stickySession
                         );
                     }
-                    if (dataQueryResult.getValue().getTxId() == null || dataQueryResult.getValue().getTxId().isEmpty()) {
-                        nextState = new OutsideTransactionState(ydbContext, ydbTxSettings, statementTimeout);
-                        session.close();
+                    // the server may return the id of the committed transaction
+                    if (txId == null || txId.isEmpty() || txControl.isCommitTx() && dataQueryResult.isSuccess()) {
+                        nextState = transactionEnded();
                     }
 
-                    return new NextStateResult<>(ResultExtractor.extract(
-                            dataQueryResult,
-                            operationTypes,
-                            ydbContext.getOperationsConfig().getFailOnTruncatedResult()), nextState);
+                    return new NextStateResult<>(extractResults(yql, dataQueryResult, operationTypes), nextState);
                 });
     }
 
@@ -104,6 +134,16 @@ public final class InsideTransactionState extends AbstractConnectionState implem
         return Flux.error(new IllegalStateException(SCHEME_QUERY_INSIDE_TRANSACTION));
     }
 
+    @Override
+    public Flux<YdbResult> executeScanQuery(String yql, Params params) {
+        return Flux.error(new IllegalStateException(SCAN_QUERY_INSIDE_TRANSACTION));
+    }
+
+    @Override
+    public Mono<Void> executeBulkUpsert(String table, ListValue rows) {
+        return executeBulkUpsert(session, table, rows);
+    }
+
     @Override
     public Mono<InsideTransactionState> beginTransaction(YdbTxSettings ydbTxSettings) {
         return Mono.just(this);
@@ -111,22 +151,22 @@ public final class InsideTransactionState extends AbstractConnectionState implem
 
     @Override
     public Mono<OutsideTransactionState> commitTransaction() {
-        return Mono.fromFuture(session.commitTransaction(
-                        id,
-                        withDeadlineTimeout(new CommitTxSettings())))
-                .flatMap(ResultExtractor::extract)
-                .doOnSuccess(unused -> session.close())
-                .then(Mono.just(new OutsideTransactionState(ydbContext, ydbTxSettings, statementTimeout)));
+        Mono<Void> commit = YdbMetricsRecorder.timed(Mono.fromFuture(session.commitTransaction(
+                                id,
+                                withDeadlineTimeout(new CommitTxSettings())))
+                        .flatMap(ResultExtractor::extract), ydbContext.getMetrics(), YdbMetrics.Phase.COMMIT);
+
+        return YdbTracing.traced(commit, ydbContext.getTracer(), YdbTracing.TRANSACTION_COMMIT)
+                .then(Mono.fromSupplier(this::transactionEnded));
     }
 
     @Override
     public Mono<OutsideTransactionState> rollbackTransaction() {
-        return Mono.fromFuture(session.rollbackTransaction(
-                        id,
-                        withDeadlineTimeout(new RollbackTxSettings())))
-                .flatMap(ResultExtractor::extract)
-                .doOnSuccess(unused -> session.close())
-                .then(Mono.just(new OutsideTransactionState(ydbContext, ydbTxSettings, statementTimeout)));
+        return YdbTracing.traced(Mono.fromFuture(session.rollbackTransaction(
+                                id,
+                                withDeadlineTimeout(new RollbackTxSettings())))
+                        .flatMap(ResultExtractor::extract), ydbContext.getTracer(), YdbTracing.TRANSACTION_ROLLBACK)
+                .then(Mono.fromSupplier(this::transactionEnded));
     }
 
     @Override
@@ -170,7 +210,34 @@ public final class InsideTransactionState extends AbstractConnectionState implem
 
     public Mono<Void> close() {
         return commitTransaction()
-                .then();
+                .flatMap(OutsideTransactionState::close);
+    }
+
+    /**
+     * Leave the transaction without ending it, when it can not be rolled back. The session is closed and
+     * not kept, the server aborts the transaction by timeout.
+     *
+     * @return state after the transaction
+     */
+    public OutsideTransactionState discardTransaction() {
+        session.close();
+
+        return new OutsideTransactionState(ydbContext, ydbTxSettings, statementTimeout, stickySession);
+    }
+
+    /**
+     * Release the session of the ended transaction.
+     *
+     * @return state after the transaction
+     */
+    private OutsideTransactionState transactionEnded() {
+        if (stickySession == null) {
+            session.close();
+        } else {
+            stickySession.release(session);
+        }
+
+        return new OutsideTransactionState(ydbContext, ydbTxSettings, statementTimeout, stickySession);
     }
 
     @Override
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.state;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import io.r2dbc.spi.IsolationLevel;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.annotation.Nullable;
+import tech.ydb.io.r2dbc.YdbContext;
+import tech.ydb.io.r2dbc.result.YdbResult;
+import tech.ydb.io.r2dbc.settings.YdbTxSettings;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.transaction.TxControl;
+
+/**
+ * Implementation of the connection state with a begun transaction, which is not started on the server yet.
+ * The first data query begins the transaction through its transaction control, and the connection moves
+ * to {@link InsideTransactionState} with the transaction id of the result.
+ *
+ * @author Egor Kuleshov
+ */
+final class LazyTransactionState extends OutsideTransactionState {
+
+    LazyTransactionState(YdbContext ydbContext,
+                         YdbTxSettings ydbTxSettings,
+                         Duration statementTimeout,
+                         @Nullable StickySession stickySession) {
+        super(ydbContext, ydbTxSettings, statementTimeout, stickySession);
+    }
+
+    @Override
+    TxControl<?> txControl() {
+        return ydbTxSettings.withAutoCommit(false).txControl();
+    }
+
+    @Override
+    OutsideTransactionState afterTransaction() {
+        return new OutsideTransactionState(ydbContext, ydbTxSettings, statementTimeout, stickySession);
+    }
+
+    @Override
+    public Flux<YdbResult> executeSchemeQuery(String yql) {
+        return Flux.error(new IllegalStateException(InsideTransactionState.SCHEME_QUERY_INSIDE_TRANSACTION));
+    }
+
+    @Override
+    public Flux<YdbResult> executeScanQuery(String yql, Params params) {
+        return Flux.error(new IllegalStateException(InsideTransactionState.SCAN_QUERY_INSIDE_TRANSACTION));
+    }
+
+    @Override
+    public Mono<YdbConnectionState> beginTransaction(YdbTxSettings ydbTxSettings) {
+        return Mono.just(this);
+    }
+
+    @Override
+    public Mono<OutsideTransactionState> commitTransaction() {
+        return Mono.fromSupplier(this::afterTransaction);
+    }
+
+    @Override
+    public Mono<OutsideTransactionState> rollbackTransaction() {
+        return Mono.fromSupplier(this::afterTransaction);
+    }
+
+    @Override
+    public Mono<YdbConnectionState> setAutoCommit(boolean autoCommit) {
+        if (autoCommit) {
+            return commitTransaction()
+                    .flatMap(state -> state.setAutoCommit(true));
+        }
+
+        return Mono.just(this);
+    }
+
+    @Override
+    public Mono<Void> setIsolationLevel(IsolationLevel isolationLevel) {
+        if (ydbTxSettings.getIsolationLevel().equals(isolationLevel)) {
+            return Mono.empty();
+        }
+
+        return Mono.error(new IllegalStateException("Can not change isolation level in active transaction"));
+    }
+
+    @Override
+    public Mono<Void> setReadOnly(boolean readOnly) {
+        if (ydbTxSettings.isReadOnly() == readOnly) {
+            return Mono.empty();
+        }
+
+        return Mono.error(new IllegalStateException("Can not change read only in active transaction"));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        LazyTransactionState that = (LazyTransactionState) o;
+        return Objects.equals(ydbTxSettings, that.ydbTxSettings);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(ydbTxSettings);
+    }
+
+    @Override
+    public String toString() {
+        return "LazyTransactionState{" +
+                "ydbTxSettings=" + ydbTxSettings +
+                ", statementTimeout=" + statementTimeout +
+                '}';
+    }
+}
@@ -25,19 +25,28 @@ import io.r2dbc.spi.IsolationLevel;
 import io.r2dbc.spi.ValidationDepth;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.annotation.Nullable;
 import tech.ydb.core.Result;
 import tech.ydb.io.r2dbc.FluxDiscardOnCancel;
 import tech.ydb.io.r2dbc.YdbContext;
+import tech.ydb.io.r2dbc.YdbResultCache;
+import tech.ydb.io.r2dbc.metrics.YdbMetrics;
+import tech.ydb.io.r2dbc.metrics.YdbMetricsRecorder;
 import tech.ydb.io.r2dbc.settings.YdbTxSettings;
 import tech.ydb.io.r2dbc.query.OperationType;
 import tech.ydb.io.r2dbc.result.YdbResult;
+import tech.ydb.io.r2dbc.retry.YdbRetryExecutor;
+import tech.ydb.io.r2dbc.tracing.YdbTracing;
+import tech.ydb.io.r2dbc.util.ReadStreams;
 import tech.ydb.io.r2dbc.util.ResultExtractor;
 import tech.ydb.table.Session;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
 import tech.ydb.table.settings.BeginTxSettings;
-import tech.ydb.table.settings.ExecuteDataQuerySettings;
-import tech.ydb.table.settings.ExecuteSchemeQuerySettings;
+import tech.ydb.table.settings.ExecuteScanQuerySettings;
 import tech.ydb.table.settings.KeepAliveSessionSettings;
+import tech.ydb.table.transaction.TxControl;
+import tech.ydb.table.values.ListValue;
 
 /**
  * Implementation of the connection state without an open transaction.
@@ -46,21 +55,58 @@ import tech.ydb.table.settings.KeepAliveSessionSettings;
  * @author Egor Kuleshov
  */
 public class OutsideTransactionState extends AbstractConnectionState implements YdbConnectionState {
+    @Nullable
+    protected final StickySession stickySession;
 
     public OutsideTransactionState(YdbContext ydbContext, YdbTxSettings ydbTxSettings) {
-        super(ydbContext, ydbTxSettings, ydbContext.getStatementTimeout());
+        this(ydbContext, ydbTxSettings, ydbContext.getStatementTimeout());
     }
 
     public OutsideTransactionState(YdbContext ydbContext, YdbTxSettings ydbTxSettings, Duration statementTimeout) {
+        this(ydbContext, ydbTxSettings, statementTimeout, null);
+    }
+
+    /**
+     * @param stickySession session kept between statements, null to take a pooled session for each statement
+     */
+    public OutsideTransactionState(YdbContext ydbContext,
+                                   YdbTxSettings ydbTxSettings,
+                                   Duration statementTimeout,
+                                   @Nullable StickySession stickySession) {
         super(ydbContext, ydbTxSettings, statementTimeout);
+        this.stickySession = stickySession;
     }
 
     @Override
     public Mono<NextStateResult<Flux<YdbResult>>> executeDataQuery(String yql, Params params,
                                                                    List<OperationType> operationTypes) {
-        return monoWithSession(session ->
-                Mono.fromFuture(session.executeDataQuery(yql, ydbTxSettings.txControl(), params,
-                                withStatementTimeout(new ExecuteDataQuerySettings())))
+        return executeDataQuery(yql, params, operationTypes, txControl());
+    }
+
+    @Override
+    public Mono<NextStateResult<Flux<YdbResult>>> executeDataQueryAndCommit(String yql, Params params,
+                                                                            List<OperationType> operationTypes) {
+        return executeDataQuery(yql, params, operationTypes, txControl().setCommitTx(true));
+    }
+
+    private Mono<NextStateResult<Flux<YdbResult>>> executeDataQuery(String yql, Params params,
+                                                                    List<OperationType> operationTypes,
+                                                                    TxControl<?> txControl) {
+        boolean readOnly = operationTypes.stream().allMatch(OperationType.SELECT::equals);
+        // only statements committing their own transaction may be answered from the cache
+        YdbResultCache resultCache = readOnly && ydbTxSettings.isStaleTolerant() && ydbContext.getResultCache() != null
+                && txControl.isCommitTx() ? ydbContext.getResultCache() : null;
+        if (resultCache != null) {
+            List<ResultSetReader> cached = resultCache.get(yql, params);
+            if (cached != null) {
+                return Mono.just(new NextStateResult<>(ResultExtractor.extract(cached,
+                        ydbContext.getOperationsConfig().getFailOnTruncatedResult(),
+                        ydbContext.getMetrics()), afterTransaction()));
+            }
+        }
+
+        Mono<NextStateResult<Flux<YdbResult>>> execution = monoWithSession(session ->
+                Mono.fromFuture(executeDataQuery(session, yql, txControl, params))
                         .map(dataQueryResult -> {
                             YdbConnectionState nextState;
                             if (dataQueryResult.getValue().getTxId() != null && !dataQueryResult.getValue().getTxId().isEmpty()) {
@@ -68,46 +114,81 @@ public class OutsideTransactionState extends AbstractConnectionState implements
                                         dataQueryResult.getValue().getTxId(),
                                         session,
                                         ydbTxSettings,
-                                        statementTimeout);
+                                        statementTimeout,
+                                        stickySession);
                             } else {
-                                nextState = this;
-                                session.close();
+                                nextState = afterTransaction();
+                                releaseSession(session);
+                            }
+                            if (resultCache != null && dataQueryResult.isSuccess()) {
+                                resultCache.put(yql, params, dataQueryResult.getValue());
                             }
 
-                            return new NextStateResult<>(ResultExtractor.extract(
-                                    dataQueryResult,
-                                    operationTypes,
-                                    ydbContext.getOperationsConfig().getFailOnTruncatedResult()),
+                            return new NextStateResult<>(extractResults(yql, dataQueryResult, operationTypes),
                                     nextState);
                         })
         );
+
+        // a failed query committing its own transaction has not changed anything and is executed again
+        YdbRetryExecutor retryExecutor = ydbContext.getRetryExecutor();
+        if (retryExecutor != null && txControl.isCommitTx()) {
+            return retryExecutor.retry(execution, readOnly);
+        }
+
+        return execution;
     }
 
     @Override
     public Flux<YdbResult> executeSchemeQuery(String yql) {
-        return fluxWithSession(session -> Mono.fromFuture(session.executeSchemeQuery(yql,
-                        withStatementTimeout(new ExecuteSchemeQuerySettings())))
+        return fluxWithSession(session -> Mono.fromFuture(executeSchemeQuery(session, yql))
                 .flatMap(ResultExtractor::extract)
                 .then(Mono.just(YdbResult.DDL_RESULT))
                 .flux()
-                .doOnComplete(session::close));
+                .doOnComplete(() -> releaseSession(session)));
+    }
+
+    @Override
+    public Flux<YdbResult> executeScanQuery(String yql, Params params) {
+        ExecuteScanQuerySettings.Builder settings = ExecuteScanQuerySettings.newBuilder();
+        if (!statementTimeout.isZero() && !statementTimeout.isNegative()) {
+            settings.withRequestTimeout(statementTimeout);
+        }
+
+        return Flux.just(YdbResult.ofStream(YdbTracing.traced(fluxWithPooledSession(session -> ReadStreams.toFlux(
+                        () -> session.executeScanQuery(yql, params, settings.build()),
+                        "Scan query failed",
+                        ydbContext.getOperationsConfig().getStreamMaxBufferedParts())),
+                ydbContext.getTracer(),
+                YdbTracing.RESULT_STREAM,
+                span -> span.setAttribute(YdbTracing.OPERATION_TYPES, OperationType.SELECT.name()))));
+    }
+
+    @Override
+    public Mono<Void> executeBulkUpsert(String table, ListValue rows) {
+        return monoWithSession(session -> executeBulkUpsert(session, table, rows)
+                .doOnSuccess(unused -> releaseSession(session)));
     }
 
     @Override
-    public Mono<InsideTransactionState> beginTransaction(YdbTxSettings ydbTxSettings) {
+    public Mono<YdbConnectionState> beginTransaction(YdbTxSettings ydbTxSettings) {
+        if (ydbContext.getOperationsConfig().isLazyBeginTransaction()) {
+            return Mono.just(new LazyTransactionState(ydbContext, ydbTxSettings, statementTimeout, stickySession));
+        }
+
         this.ydbTxSettings = ydbTxSettings.withAutoCommit(false);
 
-        return monoWithSession(session -> Mono.fromFuture(session.beginTransaction(
+        return YdbTracing.traced(monoWithSession(session -> Mono.fromFuture(session.beginTransaction(
                         ydbTxSettings.getMode(),
                         withDeadlineTimeout(new BeginTxSettings())))
                 .map(Result::getValue)
-                .map(transaction ->
+                .<YdbConnectionState>map(transaction ->
                         new InsideTransactionState(ydbContext,
                                 transaction.getId(),
                                 session,
                                 ydbTxSettings,
-                                statementTimeout))
-        );
+                                statementTimeout,
+                                stickySession))
+        ), ydbContext.getTracer(), YdbTracing.TRANSACTION_BEGIN);
     }
 
     @Override
@@ -135,7 +216,7 @@ public class OutsideTransactionState extends AbstractConnectionState implements
                     Mono.fromFuture(session.keepAlive(withDeadlineTimeout(new KeepAliveSessionSettings())))
                             .flatMap(stateResult -> ResultExtractor.extract(stateResult)
                                     .map(state -> Session.State.READY == state))
-                            .doOnSuccess(unused -> session.close()));
+                            .doOnSuccess(unused -> releaseSession(session)));
         };
     }
 
@@ -151,7 +232,36 @@ public class OutsideTransactionState extends AbstractConnectionState implements
 
     @Override
     public Mono<Void> close() {
-        return Mono.empty();
+        if (stickySession == null) {
+            return Mono.empty();
+        }
+
+        return Mono.fromRunnable(stickySession::close);
+    }
+
+    /**
+     * @return transaction control of the data queries executed in this state
+     */
+    TxControl<?> txControl() {
+        return ydbTxSettings.txControl();
+    }
+
+    /**
+     * @return state after a data query which has not left a transaction open
+     */
+    OutsideTransactionState afterTransaction() {
+        return this;
+    }
+
+    /**
+     * Return the session after a successful statement, to the sticky session if it is enabled.
+     */
+    private void releaseSession(Session session) {
+        if (stickySession == null) {
+            session.close();
+        } else {
+            stickySession.release(session);
+        }
     }
 
     /**
@@ -175,8 +285,7 @@ public class OutsideTransactionState extends AbstractConnectionState implements
      * @return result function {@link Flux}
      */
     private <T> Flux<T> fluxWithSession(Function<Session, Flux<T>> function) {
-        return Flux.defer(() -> Mono.fromFuture(ydbContext.getSession())
-                .flatMap(sessionResult -> ResultExtractor.extract(sessionResult, "Error creating session"))
+        return Flux.defer(() -> acquireSession()
                 .flatMapMany(session -> {
                     try {
                         return function.apply(session)
@@ -189,6 +298,16 @@ public class OutsideTransactionState extends AbstractConnectionState implements
                 }).as(FluxDiscardOnCancel::new));
     }
 
+    private Mono<Session> acquireSession() {
+        Mono<Session> session = stickySession != null
+                ? stickySession.acquire()
+                : Mono.fromFuture(ydbContext.getSession())
+                        .flatMap(sessionResult -> ResultExtractor.extract(sessionResult, "Error creating session"));
+
+        return YdbTracing.traced(YdbMetricsRecorder.timed(session, ydbContext.getMetrics(), YdbMetrics.Phase.ACQUIRE),
+                ydbContext.getTracer(), YdbTracing.SESSION_ACQUIRE);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
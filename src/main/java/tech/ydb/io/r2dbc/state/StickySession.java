@@ -0,0 +1,158 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.state;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.annotation.Nullable;
+import tech.ydb.io.r2dbc.YdbContext;
+import tech.ydb.io.r2dbc.util.ResultExtractor;
+import tech.ydb.table.Session;
+
+/**
+ * Session kept by a connection between statements, so consecutive statements skip acquiring and releasing
+ * a pooled session and hit the prepared queries of the session. The session is taken exclusively by a statement,
+ * concurrent statements use sessions of the pool. The kept session is returned to the pool after the idle time,
+ * after the maximum number of statements and on errors.
+ *
+ * @author Egor Kuleshov
+ */
+public final class StickySession {
+    private final YdbContext ydbContext;
+    private final long maxIdleNanos;
+    private final int maxStatements;
+
+    @Nullable
+    private Session session;
+    private long releasedAt;
+    @Nullable
+    private Disposable idleTimer;
+    private int statements;
+    private boolean closed;
+
+    /**
+     * @param ydbContext context with the session pool
+     * @param maxIdleTime time to keep the session without statements
+     * @param maxStatements number of statements to execute on the session before returning it, 0 for unlimited
+     */
+    public StickySession(YdbContext ydbContext, Duration maxIdleTime, int maxStatements) {
+        this.ydbContext = ydbContext;
+        this.maxIdleNanos = maxIdleTime.toNanos();
+        this.maxStatements = maxStatements;
+    }
+
+    /**
+     * @return the kept session or a session of the pool
+     */
+    Mono<Session> acquire() {
+        return Mono.defer(() -> {
+            Session kept = take();
+            if (kept != null) {
+                return Mono.just(kept);
+            }
+
+            return Mono.fromFuture(ydbContext.getSession())
+                    .flatMap(sessionResult -> ResultExtractor.extract(sessionResult, "Error creating session"));
+        });
+    }
+
+    /**
+     * Keep the session after a successful statement or return it to the pool.
+     */
+    void release(Session released) {
+        synchronized (this) {
+            if (!closed && session == null && (maxStatements <= 0 || ++statements < maxStatements)) {
+                session = released;
+                releasedAt = System.nanoTime();
+                // one periodic check per connection instead of a timer per statement
+                if (idleTimer == null) {
+                    idleTimer = Schedulers.parallel().schedulePeriodically(this::expire,
+                            maxIdleNanos, maxIdleNanos, TimeUnit.NANOSECONDS);
+                }
+
+                return;
+            }
+            if (session == null) {
+                statements = 0;
+            }
+        }
+
+        released.close();
+    }
+
+    /**
+     * Return the kept session to the pool and stop keeping sessions.
+     */
+    void close() {
+        Session kept;
+        synchronized (this) {
+            closed = true;
+            if (idleTimer != null) {
+                idleTimer.dispose();
+                idleTimer = null;
+            }
+            kept = session;
+            session = null;
+        }
+
+        if (kept != null) {
+            kept.close();
+        }
+    }
+
+    /**
+     * @return the kept session or null, the session idle for longer than the idle time is returned to the pool
+     */
+    @Nullable
+    private Session take() {
+        Session expired;
+        synchronized (this) {
+            expired = session;
+            session = null;
+            if (expired == null || !isIdle()) {
+                return expired;
+            }
+            statements = 0;
+        }
+
+        expired.close();
+
+        return null;
+    }
+
+    private void expire() {
+        Session expired;
+        synchronized (this) {
+            if (session == null || !isIdle()) {
+                return;
+            }
+            expired = session;
+            session = null;
+            statements = 0;
+        }
+
+        expired.close();
+    }
+
+    private boolean isIdle() {
+        return System.nanoTime() - releasedAt >= maxIdleNanos;
+    }
+}
@@ -23,10 +23,13 @@ import io.r2dbc.spi.IsolationLevel;
 import io.r2dbc.spi.ValidationDepth;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import tech.ydb.io.r2dbc.settings.YdbReadTableSettings;
 import tech.ydb.io.r2dbc.settings.YdbTxSettings;
 import tech.ydb.io.r2dbc.query.OperationType;
 import tech.ydb.io.r2dbc.result.YdbResult;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.ListValue;
 
 /**
  * The YDB connection state provides methods for changing the state, making requests, and getting a new state.
@@ -44,6 +47,18 @@ public interface YdbConnectionState {
      */
     Mono<NextStateResult<Flux<YdbResult>>> executeDataQuery(String yql, Params params, List<OperationType> operationTypes);
 
+    /**
+     * Execute a data query to YDB and commit the transaction with it, saving a separate commit request.
+     * Outside of a transaction the query is executed in its own committed transaction.
+     *
+     * @param yql built a query with the specified types of parameters
+     * @param params query parameters
+     * @param operationTypes types of queries within a single yql query
+     * @return the result of the yql query is wrapped in the NextStateResult with the state out the transaction
+     */
+    Mono<NextStateResult<Flux<YdbResult>>> executeDataQueryAndCommit(String yql, Params params,
+                                                                     List<OperationType> operationTypes);
+
     /**
      * Execute a schema query to YDB, returns the result.
      *
@@ -52,13 +67,44 @@ public interface YdbConnectionState {
      */
     Flux<YdbResult> executeSchemeQuery(String yql);
 
+    /**
+     * Execute a scan query to YDB, the rows of the result are emitted as the result set parts arrive.
+     * The scan query is executed outside of any transaction.
+     *
+     * @param yql built a query with the specified types of parameters, single SELECT
+     * @param params query parameters
+     * @return the result of the scan query
+     */
+    Flux<YdbResult> executeScanQuery(String yql, Params params);
+
+    /**
+     * Read the table with the ReadTable RPC, the result set parts are emitted as they arrive.
+     * The read is executed outside of any transaction.
+     *
+     * @param table path to the table
+     * @param settings columns, key range, order and partition concurrency of the read
+     * @return parts of the table
+     */
+    Flux<ResultSetReader> executeReadTable(String table, YdbReadTableSettings settings);
+
+    /**
+     * Execute a bulk upsert of the rows to the table.
+     * Bulk upsert is not a part of the open transaction and is applied independently.
+     *
+     * @param table path to the table
+     * @param rows list of structs with the table columns
+     * @return Mono that indicates that the rows were upserted
+     */
+    Mono<Void> executeBulkUpsert(String table, ListValue rows);
+
     /**
      * Begin a transaction with the settings if the transaction has not been started yet, otherwise it does nothing.
+     * With lazy begin the transaction is started by the first data query.
      *
      * @param ydbTxSettings settings for the beginning of the transaction
      * @return connection state in the transaction
      */
-    Mono<InsideTransactionState> beginTransaction(YdbTxSettings ydbTxSettings);
+    Mono<? extends YdbConnectionState> beginTransaction(YdbTxSettings ydbTxSettings);
 
     /**
      * Commit the transaction if there is an open transaction, otherwise it does nothing.
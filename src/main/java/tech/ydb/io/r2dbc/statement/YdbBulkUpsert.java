@@ -0,0 +1,128 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.statement;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import tech.ydb.io.r2dbc.OperationsConfig;
+import tech.ydb.io.r2dbc.YdbConnection;
+import tech.ydb.io.r2dbc.parameter.YdbParameterResolver;
+import tech.ydb.io.r2dbc.util.ValueSizeEstimator;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.StructValue;
+import tech.ydb.table.values.Type;
+import tech.ydb.table.values.Value;
+
+/**
+ * Bulk upsert of rows to a table through the YDB BulkUpsert RPC, bypassing data queries and transactions.
+ * Rows are converted by {@link YdbParameterResolver}, grouped into chunks bounded by rows and estimated bytes,
+ * and chunks are sent with bounded concurrency.
+ *
+ * @author Egor Kuleshov
+ */
+public class YdbBulkUpsert {
+    private final YdbConnection connection;
+    private final String table;
+
+    public YdbBulkUpsert(YdbConnection connection, String table) {
+        this.connection = connection;
+        this.table = table;
+    }
+
+    /**
+     * Upsert the rows, each row maps column names to values.
+     * Null values must be passed as typed {@link io.r2dbc.spi.Parameter} or {@link Value}.
+     *
+     * @param rows rows to upsert
+     * @return number of upserted rows
+     */
+    public Mono<Long> execute(Publisher<? extends Map<String, ?>> rows) {
+        OperationsConfig operationsConfig = connection.getOperationsConfig();
+
+        return Flux.defer(() -> {
+                    ChunkBoundary chunkBoundary = new ChunkBoundary(
+                            operationsConfig.getBulkUpsertMaxRows(),
+                            operationsConfig.getBulkUpsertMaxBytes()
+                    );
+
+                    return Flux.from(rows)
+                            .map(YdbBulkUpsert::toStructValue)
+                            .bufferUntil(chunkBoundary::isChunkStart, true);
+                })
+                .flatMap(chunk -> connection
+                                .executeBulkUpsert(table, ListValue.of(chunk.toArray(new Value<?>[0])))
+                                .thenReturn((long) chunk.size()),
+                        operationsConfig.getBulkUpsertConcurrency())
+                .reduce(0L, Long::sum);
+    }
+
+    private static StructValue toStructValue(Map<String, ?> row) {
+        if (row.isEmpty()) {
+            throw new IllegalArgumentException("Row for bulk upsert has no columns");
+        }
+
+        Map<String, Value<?>> values = new HashMap<>(row.size() * 2);
+        for (Map.Entry<String, ?> column : row.entrySet()) {
+            if (column.getValue() == null) {
+                throw new IllegalArgumentException(String.format(
+                        "Column %s is null, bind null as a typed Parameter or Value", column.getKey()));
+            }
+
+            values.put(column.getKey(), YdbParameterResolver.resolve(column.getValue()));
+        }
+
+        return StructValue.of(values);
+    }
+
+    /**
+     * Starts a new chunk when the row type changes or the chunk limits are exceeded.
+     */
+    private static final class ChunkBoundary {
+        private final int maxRows;
+        private final int maxBytes;
+
+        private Type chunkType;
+        private int chunkRows;
+        private long chunkBytes;
+
+        private ChunkBoundary(int maxRows, int maxBytes) {
+            this.maxRows = maxRows;
+            this.maxBytes = maxBytes;
+        }
+
+        private boolean isChunkStart(StructValue row) {
+            long bytes = ValueSizeEstimator.estimateSize(row);
+            boolean chunkStart = chunkRows > 0 && (!row.getType().equals(chunkType)
+                    || chunkRows >= maxRows
+                    || chunkBytes + bytes > maxBytes);
+            if (chunkStart) {
+                chunkRows = 0;
+                chunkBytes = 0;
+            }
+
+            chunkType = row.getType();
+            chunkRows++;
+            chunkBytes += bytes;
+
+            return chunkStart;
+        }
+    }
+}
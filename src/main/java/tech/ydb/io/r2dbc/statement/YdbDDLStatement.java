@@ -58,7 +58,7 @@ public class YdbDDLStatement extends YdbStatement {
     }
 
     @Override
-    public Flux<YdbResult> execute() {
+    protected Flux<YdbResult> executeStatement() {
         try {
             return connection.executeSchemeQuery(query.getYqlQuery(Binding.empty()));
         } catch (Exception e) {
@@ -16,30 +16,149 @@
 
 package tech.ydb.io.r2dbc.statement;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import reactor.core.publisher.Flux;
+import tech.ydb.io.r2dbc.OperationsConfig;
+import tech.ydb.io.r2dbc.query.OperationType;
+import tech.ydb.io.r2dbc.query.YdbBatchTemplate;
 import tech.ydb.io.r2dbc.query.YdbQuery;
 import tech.ydb.io.r2dbc.result.YdbResult;
 import tech.ydb.io.r2dbc.YdbConnection;
+import tech.ydb.io.r2dbc.statement.binding.Binding;
+import tech.ydb.io.r2dbc.statement.binding.TypeSignature;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.ListType;
 
 /**
  * @author Egor Kuleshov
  */
 public class YdbDMLStatement extends YdbStatement {
+    private static final List<OperationType> SINGLE_SELECT = List.of(OperationType.SELECT);
+    private static final String SCAN_QUERY_NOT_SELECT = "Scan query supports only a single SELECT statement";
+
+    private boolean scanQuery;
+    private boolean commit;
+
     public YdbDMLStatement(YdbQuery query, YdbConnection connection) {
         super(query, connection);
     }
 
+    /**
+     * Execute the statement as a scan query, the rows are streamed as the result set parts arrive.
+     * Only a single SELECT statement outside of a transaction can be executed as a scan query.
+     *
+     * @param scanQuery execute as a scan query
+     * @return this statement
+     */
+    public YdbDMLStatement scanQuery(boolean scanQuery) {
+        this.scanQuery = scanQuery;
+
+        return this;
+    }
+
+    /**
+     * Commit the transaction with the last binding of the statement, instead of a separate commit request.
+     * Outside of a transaction each binding is executed in its own committed transaction.
+     *
+     * @param commit commit the transaction with the statement
+     * @return this statement
+     */
+    public YdbDMLStatement commit(boolean commit) {
+        this.commit = commit;
+
+        return this;
+    }
+
     @Override
-    public Flux<YdbResult> execute() {
+    protected Flux<YdbResult> executeStatement() {
         bindings.getCurrent().validate();
 
-        String yql = query.getYqlQuery(bindings.getCurrent());
+        boolean singleSelect = query.getOperationTypes().equals(SINGLE_SELECT);
+        if (scanQuery && !singleSelect) {
+            return Flux.error(new IllegalStateException(SCAN_QUERY_NOT_SELECT));
+        }
+        if (scanQuery || singleSelect && connection.isAutoCommit() && connection.getOperationsConfig().isScanQuery()) {
+            return Flux.fromIterable(bindings)
+                    .concatMap(binding -> connection.executeScanQuery(query.getYqlQuery(binding), query.toParams(binding)));
+        }
+
+        YdbBatchTemplate batchTemplate = query.getBatchTemplate();
+        if (batchTemplate != null && bindings.size() > 1 && connection.getOperationsConfig().isBatchAsTable()) {
+            return executeBatch(batchTemplate, connection.getOperationsConfig());
+        }
+
+        int last = bindings.size() - 1;
+
         return Flux.fromIterable(bindings)
-                .concatMap(binding -> connection.executeDataQuery(
-                                yql,
-                                binding.toParams(),
-                                query.getOperationTypes()
+                .index()
+                .concatMap(binding -> executeDataQuery(
+                                query.getYqlQuery(binding.getT2()),
+                                query.toParams(binding.getT2()),
+                                commit && binding.getT1() == last
                         )
                 );
     }
+
+    private Flux<YdbResult> executeDataQuery(String yql, Params params, boolean commitTx) {
+        return commitTx
+                ? connection.executeDataQueryAndCommit(yql, params, query.getOperationTypes())
+                : connection.executeDataQuery(yql, params, query.getOperationTypes());
+    }
+
+    /**
+     * Execute the bindings as AS_TABLE batches, one data query per batch.
+     * Emits an update result for each binding, as the execution binding by binding does.
+     */
+    private Flux<YdbResult> executeBatch(YdbBatchTemplate batchTemplate, OperationsConfig operationsConfig) {
+        List<List<Binding>> batches = splitBatches(operationsConfig.getBatchMaxRows(),
+                operationsConfig.getBatchMaxBytes());
+        int last = batches.size() - 1;
+
+        return Flux.fromIterable(batches)
+                .index()
+                .concatMap(indexed -> {
+                    List<Binding> batch = indexed.getT2();
+                    ListType batchType = batchTemplate.getBatchType(batch.get(0).getTypeSignature());
+
+                    return executeDataQuery(
+                                    batchTemplate.getYqlQuery(batchType),
+                                    Params.of(YdbBatchTemplate.BATCH_PARAM_NAME,
+                                            batchTemplate.toBatchValue(batchType, batch)),
+                                    commit && indexed.getT1() == last
+                            )
+                            .thenMany(Flux.fromIterable(Collections.nCopies(batch.size(), YdbResult.UPDATE_RESULT)));
+                });
+    }
+
+    /**
+     * Split the bindings into batches with the same type signature, bounded by rows and estimated bytes.
+     */
+    private List<List<Binding>> splitBatches(int maxRows, int maxBytes) {
+        List<List<Binding>> batches = new ArrayList<>();
+        List<Binding> batch = new ArrayList<>();
+        TypeSignature batchTypeSignature = null;
+        long batchBytes = 0;
+
+        for (Binding binding : bindings) {
+            TypeSignature typeSignature = binding.getTypeSignature();
+            long bytes = binding.estimateSize();
+            if (!batch.isEmpty() && (!typeSignature.equals(batchTypeSignature)
+                    || batch.size() >= maxRows
+                    || batchBytes + bytes > maxBytes)) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                batchBytes = 0;
+            }
+
+            batch.add(binding);
+            batchTypeSignature = typeSignature;
+            batchBytes += bytes;
+        }
+        batches.add(batch);
+
+        return batches;
+    }
 }
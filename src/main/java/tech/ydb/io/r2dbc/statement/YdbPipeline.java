@@ -0,0 +1,120 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.statement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import reactor.core.publisher.Flux;
+import tech.ydb.io.r2dbc.YdbConnection;
+import tech.ydb.io.r2dbc.query.QueryType;
+import tech.ydb.io.r2dbc.query.YdbPipelineQuery;
+import tech.ydb.io.r2dbc.result.YdbResult;
+import tech.ydb.io.r2dbc.statement.binding.Binding;
+
+/**
+ * Pipeline of bound DML statements executed with as few round trips as possible.
+ * Consecutive statements are merged into one multi-statement data query where YDB allows it,
+ * the rest are sent back-to-back on the session of the connection.
+ * Inside a transaction all statements belong to it, in auto-commit mode each merged query commits on its own.
+ *
+ * @author Egor Kuleshov
+ */
+public final class YdbPipeline {
+    private static final String NOT_DML = "Only DML statements can be executed in a pipeline";
+
+    private final YdbConnection connection;
+    private final List<YdbStatement> statements = new ArrayList<>();
+    private boolean commit;
+
+    public YdbPipeline(YdbConnection connection) {
+        this.connection = connection;
+    }
+
+    /**
+     * Add the statement with all its bindings to the pipeline.
+     *
+     * @param statement bound DML statement of the connection
+     * @return this pipeline
+     */
+    public YdbPipeline add(YdbStatement statement) {
+        if (statement.query.type() != QueryType.DML) {
+            throw new IllegalArgumentException(NOT_DML);
+        }
+        statements.add(statement);
+
+        return this;
+    }
+
+    /**
+     * Commit the transaction with the last query of the pipeline, instead of a separate commit request.
+     *
+     * @param commit commit the transaction with the pipeline
+     * @return this pipeline
+     */
+    public YdbPipeline commit(boolean commit) {
+        this.commit = commit;
+
+        return this;
+    }
+
+    /**
+     * @return results of the statements in the order they were added, as the statements would return them
+     */
+    public Flux<YdbResult> execute() {
+        List<YdbPipelineQuery> queries;
+        try {
+            queries = merge();
+        } catch (IllegalArgumentException e) {
+            return Flux.error(e);
+        }
+
+        int last = queries.size() - 1;
+
+        return Flux.fromIterable(queries)
+                .index()
+                .concatMap(indexed -> {
+                    YdbPipelineQuery query = indexed.getT2();
+
+                    return commit && indexed.getT1() == last
+                            ? connection.executeDataQueryAndCommit(query.getYqlQuery(), query.getParams(),
+                                    query.getOperationTypes())
+                            : connection.executeDataQuery(query.getYqlQuery(), query.getParams(),
+                                    query.getOperationTypes());
+                });
+    }
+
+    private List<YdbPipelineQuery> merge() {
+        List<YdbPipelineQuery> queries = new ArrayList<>();
+        YdbPipelineQuery current = new YdbPipelineQuery();
+        for (YdbStatement statement : statements) {
+            statement.bindings.getCurrent().validate();
+            for (Binding binding : statement.bindings) {
+                if (!current.canAppend(statement.query)) {
+                    queries.add(current);
+                    current = new YdbPipelineQuery();
+                }
+                current.append(statement.query, binding);
+            }
+        }
+        if (!current.isEmpty()) {
+            queries.add(current);
+        }
+
+        return queries;
+    }
+}
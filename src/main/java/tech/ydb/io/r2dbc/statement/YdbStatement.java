@@ -22,6 +22,7 @@ import tech.ydb.io.r2dbc.YdbConnection;
 import tech.ydb.io.r2dbc.result.YdbResult;
 import tech.ydb.io.r2dbc.statement.binding.Bindings;
 import tech.ydb.io.r2dbc.query.YdbQuery;
+import tech.ydb.io.r2dbc.tracing.YdbTracing;
 
 /**
  * @author Egor Kuleshov
@@ -34,7 +35,7 @@ public abstract class YdbStatement implements Statement {
 
     public YdbStatement(YdbQuery query, YdbConnection connection) {
         this.query = query;
-        this.bindings = new Bindings(query.getIndexArgNames());
+        this.bindings = new Bindings(query.getParameterNames());
         this.connection = connection;
     }
 
@@ -73,8 +74,18 @@ public abstract class YdbStatement implements Statement {
         return this;
     }
 
+    /**
+     * Execute the statement in the {@link YdbTracing#STATEMENT_EXECUTE} span, if tracing is enabled.
+     */
     @Override
-    public abstract Flux<YdbResult> execute();
+    public Flux<YdbResult> execute() {
+        return YdbTracing.traced(executeStatement(), connection.getTracer(), YdbTracing.STATEMENT_EXECUTE, span -> {
+            span.setAttribute(YdbTracing.OPERATION_TYPES, YdbTracing.operationTypes(query.getOperationTypes()));
+            span.setAttribute(YdbTracing.BINDINGS, String.valueOf(bindings.size()));
+        });
+    }
+
+    protected abstract Flux<YdbResult> executeStatement();
 
     Bindings getBindings() {
         return bindings;
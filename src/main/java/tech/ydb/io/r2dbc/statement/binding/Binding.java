@@ -16,79 +16,170 @@
 
 package tech.ydb.io.r2dbc.statement.binding;
 
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.StringJoiner;
 
 import tech.ydb.io.r2dbc.parameter.YdbParameterResolver;
+import tech.ydb.io.r2dbc.util.ValueSizeEstimator;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.values.Type;
 import tech.ydb.table.values.Value;
 
 /**
+ * Values bound to the parameters of a query, stored by parameter ordinal.
+ *
  * @author Egor Kuleshov
  */
 public class Binding {
-    private final Map<String, Value<?>> nameToValue = new HashMap<>();
-    private final Set<String> unbounded;
-    private final List<String> indexedNames;
+    private final ParameterNames parameterNames;
+    private final Value<?>[] values;
+    private TypeSignature typeSignature;
 
     public Binding(List<String> indexedNames) {
-        this.unbounded = new HashSet<>(indexedNames);
-        this.indexedNames = indexedNames;
+        this(ParameterNames.indexed(indexedNames));
+    }
+
+    public Binding(ParameterNames parameterNames) {
+        this.parameterNames = parameterNames;
+        this.values = new Value<?>[parameterNames.size()];
     }
 
     public void bind(int index, Object obj) {
-        bind(getNameByIndex(index), obj);
+        values[checkIndex(index)] = YdbParameterResolver.resolve(obj);
+        typeSignature = null;
     }
 
     public void bind(String name, Object obj) {
-        put(name, YdbParameterResolver.resolve(obj));
+        values[getOrdinal(name)] = YdbParameterResolver.resolve(obj);
+        typeSignature = null;
     }
 
     public void bindNull(int index, Class<?> clazz) {
-        bindNull(getNameByIndex(index), clazz);
+        values[checkIndex(index)] = YdbParameterResolver.resolveEmptyValue(clazz);
+        typeSignature = null;
     }
 
     public void bindNull(String name, Class<?> clazz) {
-        put(name, YdbParameterResolver.resolveEmptyValue(clazz));
+        values[getOrdinal(name)] = YdbParameterResolver.resolveEmptyValue(clazz);
+        typeSignature = null;
     }
 
+    /**
+     * Check that every positional parameter is bound. Named parameters may be left unbound, they are
+     * neither declared nor passed, so {@code $name} defined by the query itself does not need a value.
+     */
     public void validate() {
-        if (!unbounded.isEmpty()) {
-            throw new IllegalArgumentException(
-                    String.format("Parameters %s not bounded", String.join(", ", unbounded)));
+        StringJoiner unbounded = null;
+        int indexedCount = parameterNames.getIndexedNames().size();
+        for (int ordinal = 0; ordinal < indexedCount; ordinal++) {
+            if (values[ordinal] == null) {
+                if (unbounded == null) {
+                    unbounded = new StringJoiner(", ");
+                }
+                unbounded.add(parameterNames.getName(ordinal));
+            }
+        }
+
+        if (unbounded != null) {
+            throw new IllegalArgumentException(String.format("Parameters %s not bounded", unbounded));
         }
     }
 
+    /**
+     * @return bound values by parameter name
+     */
     public Map<String, Value<?>> values() {
+        Map<String, Value<?>> nameToValue = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < values.length; ordinal++) {
+            if (values[ordinal] != null) {
+                nameToValue.put(parameterNames.getName(ordinal), values[ordinal]);
+            }
+        }
+
         return nameToValue;
     }
 
-    private void put(String name, Value<?> value) {
-        if (!nameToValue.containsKey(name) && !unbounded.contains(name)) {
+    /**
+     * @return value bound to the parameter or null if the parameter is not bound
+     */
+    public Value<?> getValue(int ordinal) {
+        return values[ordinal];
+    }
+
+    public ParameterNames getParameterNames() {
+        return parameterNames;
+    }
+
+    public List<String> getIndexedNames() {
+        return parameterNames.getIndexedNames();
+    }
+
+    /**
+     * @return types of the bound values by parameter ordinal, null for unbound parameters
+     */
+    public TypeSignature getTypeSignature() {
+        if (typeSignature != null) {
+            return typeSignature;
+        }
+
+        Type[] types = new Type[values.length];
+        for (int ordinal = 0; ordinal < types.length; ordinal++) {
+            Value<?> value = values[ordinal];
+            types[ordinal] = value == null ? null : value.getType();
+        }
+
+        typeSignature = new TypeSignature(types);
+
+        return typeSignature;
+    }
+
+    private int getOrdinal(String name) {
+        int ordinal = parameterNames.getOrdinal(name);
+        if (ordinal < 0) {
             throw new IllegalArgumentException(String.format("Parameter %s not existed", name));
         }
 
-        nameToValue.put(name, value);
-        unbounded.remove(name);
+        return ordinal;
     }
 
-    private String getNameByIndex(int index) {
-        if (0 > index || index >= indexedNames.size()) {
+    private int checkIndex(int index) {
+        int indexedCount = parameterNames.getIndexedNames().size();
+        if (0 > index || index >= indexedCount) {
             throw new IllegalArgumentException(String.format("Expected index between 0 and %s, but found %s",
-                    indexedNames.size() - 1, index));
+                    indexedCount - 1, index));
         }
 
-        return indexedNames.get(index);
+        return index;
+    }
+
+    /**
+     * @return estimated serialized size of the bound values in bytes
+     */
+    public long estimateSize() {
+        long size = 0;
+        for (Value<?> value : values) {
+            if (value != null) {
+                size += ValueSizeEstimator.estimateSize(value);
+            }
+        }
+
+        return size;
     }
 
     public Params toParams() {
-        return Params.copyOf(nameToValue);
+        Params params = Params.create(values.length);
+        for (int ordinal = 0; ordinal < values.length; ordinal++) {
+            if (values[ordinal] != null) {
+                params.put(parameterNames.getName(ordinal), values[ordinal]);
+            }
+        }
+
+        return params;
     }
 
     public static Binding empty() {
-        return new Binding(List.of());
+        return new Binding(ParameterNames.empty());
     }
 }
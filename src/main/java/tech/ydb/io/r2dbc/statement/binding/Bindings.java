@@ -19,18 +19,17 @@ package tech.ydb.io.r2dbc.statement.binding;
 import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
-import java.util.List;
 
 /**
  * @author Egor Kuleshov
  */
 public class Bindings implements Iterable<Binding> {
     private final Deque<Binding> bindings = new ArrayDeque<>();
-    private final List<String> indexedParamNames;
+    private final ParameterNames parameterNames;
 
-    public Bindings(List<String> indexedParamNames) {
-        this.indexedParamNames = indexedParamNames;
-        bindings.add(new Binding(indexedParamNames));
+    public Bindings(ParameterNames parameterNames) {
+        this.parameterNames = parameterNames;
+        bindings.add(new Binding(parameterNames));
     }
 
     public Binding getCurrent() {
@@ -39,7 +38,7 @@ public class Bindings implements Iterable<Binding> {
 
     public void add() {
         getCurrent().validate();
-        bindings.add(new Binding(indexedParamNames));
+        bindings.add(new Binding(parameterNames));
     }
 
     @Override
@@ -47,6 +46,10 @@ public class Bindings implements Iterable<Binding> {
         return bindings.iterator();
     }
 
+    public int size() {
+        return bindings.size();
+    }
+
     public boolean isEmpty() {
         return bindings.isEmpty();
     }
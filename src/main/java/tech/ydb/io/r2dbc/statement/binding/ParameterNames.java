@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.statement.binding;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parameters of a query by ordinal: positional parameters first, in the order of the placeholders,
+ * then named parameters, in the order of the first usage.
+ *
+ * @author Egor Kuleshov
+ */
+public final class ParameterNames {
+    private static final ParameterNames EMPTY = new ParameterNames(List.of(), List.of());
+
+    private final List<String> names;
+    private final List<String> indexedNames;
+    private final List<String> namedNames;
+    private final Set<String> declaredNames;
+    private final Map<String, Integer> ordinals;
+
+    public ParameterNames(List<String> indexedNames, List<String> namedNames) {
+        this(indexedNames, namedNames, Set.of());
+    }
+
+    /**
+     * @param declaredNames named parameters declared by the query itself
+     */
+    public ParameterNames(List<String> indexedNames, List<String> namedNames, Set<String> declaredNames) {
+        List<String> names = new ArrayList<>(indexedNames.size() + namedNames.size());
+        names.addAll(indexedNames);
+        names.addAll(namedNames);
+
+        this.names = List.copyOf(names);
+        this.indexedNames = indexedNames;
+        this.namedNames = namedNames;
+        this.declaredNames = declaredNames;
+        this.ordinals = new HashMap<>((int) (names.size() / 0.75f) + 1);
+        for (int ordinal = 0; ordinal < names.size(); ordinal++) {
+            ordinals.put(names.get(ordinal), ordinal);
+        }
+    }
+
+    public static ParameterNames indexed(List<String> indexedNames) {
+        return indexedNames.isEmpty() ? EMPTY : new ParameterNames(indexedNames, List.of());
+    }
+
+    public static ParameterNames empty() {
+        return EMPTY;
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public String getName(int ordinal) {
+        return names.get(ordinal);
+    }
+
+    /**
+     * @return names of all parameters by ordinal
+     */
+    public List<String> getNames() {
+        return names;
+    }
+
+    public List<String> getIndexedNames() {
+        return indexedNames;
+    }
+
+    public List<String> getNamedNames() {
+        return namedNames;
+    }
+
+    public Set<String> getDeclaredNames() {
+        return declaredNames;
+    }
+
+    /**
+     * @return true if the query declares the parameter itself
+     */
+    public boolean isDeclared(String name) {
+        return declaredNames.contains(name);
+    }
+
+    /**
+     * @return ordinal of the parameter or -1 if the query has no such parameter
+     */
+    public int getOrdinal(String name) {
+        Integer ordinal = ordinals.get(name);
+
+        return ordinal == null ? -1 : ordinal;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.ydb.io.r2dbc.statement.binding;
+
+import java.util.Arrays;
+
+import tech.ydb.table.values.Type;
+
+/**
+ * Ordered tuple of the bound parameter types, used as a key of the query text with the DECLARE prelude.
+ *
+ * @author Egor Kuleshov
+ */
+public final class TypeSignature {
+    private final Type[] types;
+    private final int hashCode;
+
+    TypeSignature(Type[] types) {
+        this.types = types;
+        this.hashCode = Arrays.hashCode(types);
+    }
+
+    public int size() {
+        return types.length;
+    }
+
+    public Type getType(int index) {
+        return types[index];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TypeSignature that = (TypeSignature) o;
+        return hashCode == that.hashCode && Arrays.equals(types, that.types);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(types);
+    }
+}
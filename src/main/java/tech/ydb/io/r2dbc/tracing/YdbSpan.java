@@ -0,0 +1,35 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.tracing;
+
+/**
+ * Span of a driver operation started by {@link YdbTracer}.
+ *
+ * @author Egor Kuleshov
+ */
+public interface YdbSpan {
+    default void setAttribute(String key, String value) {
+    }
+
+    default void recordError(Throwable error) {
+    }
+
+    /**
+     * Operation completed, failed or was cancelled.
+     */
+    void end();
+}
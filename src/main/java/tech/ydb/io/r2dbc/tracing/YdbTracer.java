@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.tracing;
+
+import reactor.util.annotation.Nullable;
+import reactor.util.context.ContextView;
+
+/**
+ * Tracer of the driver operations, passed with the {@code tracer} option of the connection factory.
+ * The spans of nested operations are propagated through the Reactor {@link ContextView}, so a span started
+ * inside a statement execution gets the span of the statement as the parent. Root spans get the subscriber
+ * context, where an OpenTelemetry adapter finds the context of the application span.
+ *
+ * @author Egor Kuleshov
+ */
+@FunctionalInterface
+public interface YdbTracer {
+    /**
+     * @param name name of the operation, one of the {@code YdbTracing} span names
+     * @param parent span of the enclosing driver operation or null
+     * @param context subscriber context of the operation
+     * @return started span
+     */
+    YdbSpan startSpan(String name, @Nullable YdbSpan parent, ContextView context);
+}
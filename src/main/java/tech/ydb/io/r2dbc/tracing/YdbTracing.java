@@ -0,0 +1,145 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.tracing;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+import reactor.util.annotation.Nullable;
+import reactor.util.context.ContextView;
+import tech.ydb.io.r2dbc.query.OperationType;
+
+/**
+ * Span names, attributes and helpers wrapping publishers in spans, the source is returned as is
+ * when tracing is disabled.
+ *
+ * @author Egor Kuleshov
+ */
+public final class YdbTracing {
+    public static final String STATEMENT_EXECUTE = "ydb.statement.execute";
+    public static final String SESSION_ACQUIRE = "ydb.session.acquire";
+    public static final String TRANSACTION_BEGIN = "ydb.transaction.begin";
+    public static final String TRANSACTION_COMMIT = "ydb.transaction.commit";
+    public static final String TRANSACTION_ROLLBACK = "ydb.transaction.rollback";
+    public static final String RESULT_STREAM = "ydb.result.stream";
+
+    /**
+     * Comma separated operation types of the statement
+     */
+    public static final String OPERATION_TYPES = "ydb.operation_types";
+    /**
+     * Number of bindings executed by the statement
+     */
+    public static final String BINDINGS = "ydb.bindings";
+    /**
+     * Span was cancelled by the subscriber
+     */
+    public static final String CANCELLED = "ydb.cancelled";
+
+    private static final Object SPAN_KEY = YdbSpan.class;
+
+    private YdbTracing() {
+    }
+
+    /**
+     * @return span of the enclosing driver operation from the context or null
+     */
+    @Nullable
+    public static YdbSpan currentSpan(ContextView context) {
+        return context.getOrDefault(SPAN_KEY, null);
+    }
+
+    public static <T> Mono<T> traced(Mono<T> source, @Nullable YdbTracer tracer, String name) {
+        return traced(source, tracer, name, span -> { });
+    }
+
+    /**
+     * @param attributes sets the attributes of the started span
+     * @return mono in the span started on subscription, the span is the parent of the nested operations
+     */
+    public static <T> Mono<T> traced(Mono<T> source,
+                                     @Nullable YdbTracer tracer,
+                                     String name,
+                                     Consumer<YdbSpan> attributes) {
+        if (tracer == null) {
+            return source;
+        }
+
+        return Mono.deferContextual(context -> {
+            YdbSpan span = startSpan(tracer, name, context, attributes);
+
+            return source.doOnError(span::recordError)
+                    .doFinally(signal -> endSpan(span, signal))
+                    .contextWrite(sourceContext -> sourceContext.put(SPAN_KEY, span));
+        });
+    }
+
+    public static <T> Flux<T> traced(Flux<T> source, @Nullable YdbTracer tracer, String name) {
+        return traced(source, tracer, name, span -> { });
+    }
+
+    /**
+     * @param attributes sets the attributes of the started span
+     * @return flux in the span started on subscription, the span is the parent of the nested operations
+     */
+    public static <T> Flux<T> traced(Flux<T> source,
+                                     @Nullable YdbTracer tracer,
+                                     String name,
+                                     Consumer<YdbSpan> attributes) {
+        if (tracer == null) {
+            return source;
+        }
+
+        return Flux.deferContextual(context -> {
+            YdbSpan span = startSpan(tracer, name, context, attributes);
+
+            return source.doOnError(span::recordError)
+                    .doFinally(signal -> endSpan(span, signal))
+                    .contextWrite(sourceContext -> sourceContext.put(SPAN_KEY, span));
+        });
+    }
+
+    public static String operationTypes(List<OperationType> operationTypes) {
+        StringJoiner joiner = new StringJoiner(",");
+        for (OperationType operationType : operationTypes) {
+            joiner.add(operationType.name());
+        }
+
+        return joiner.toString();
+    }
+
+    private static YdbSpan startSpan(YdbTracer tracer,
+                                     String name,
+                                     ContextView context,
+                                     Consumer<YdbSpan> attributes) {
+        YdbSpan span = tracer.startSpan(name, currentSpan(context), context);
+        attributes.accept(span);
+
+        return span;
+    }
+
+    private static void endSpan(YdbSpan span, SignalType signal) {
+        if (signal == SignalType.CANCEL) {
+            span.setAttribute(CANCELLED, "true");
+        }
+        span.end();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.util;
+
+import java.util.function.Supplier;
+
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.core.grpc.GrpcReadStream;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class ReadStreams {
+
+    private ReadStreams() {
+    }
+
+    /**
+     * Flux of the gRPC read stream parts. The stream is started on subscription and cancelled on cancel.
+     * The read stream has no flow control, parts received ahead of the demand are buffered up to the limit,
+     * then the stream is cancelled and the flux fails with an overflow error after the buffered parts.
+     *
+     * @param streamSupplier creates the read stream
+     * @param failMessage message of the error for an unsuccessful stream status
+     * @param maxBufferedParts maximum number of parts received ahead of the demand
+     * @param <T> part type
+     * @return flux of the stream parts
+     */
+    public static <T> Flux<T> toFlux(Supplier<GrpcReadStream<T>> streamSupplier, String failMessage,
+                                     int maxBufferedParts) {
+        return Flux.<T>create(sink -> {
+            GrpcReadStream<T> stream = streamSupplier.get();
+            sink.onCancel(stream::cancel);
+            stream.start(sink::next).whenComplete((status, throwable) -> {
+                if (throwable != null) {
+                    sink.error(throwable);
+                } else if (status.isSuccess()) {
+                    sink.complete();
+                } else {
+                    sink.error(new UnexpectedResultException(failMessage, status));
+                }
+            });
+        }, FluxSink.OverflowStrategy.ERROR).onBackpressureBuffer(maxBufferedParts, BufferOverflowStrategy.ERROR);
+    }
+}
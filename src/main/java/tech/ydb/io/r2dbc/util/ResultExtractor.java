@@ -21,12 +21,16 @@ import java.util.List;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.annotation.Nullable;
 import tech.ydb.core.Result;
 import tech.ydb.core.Status;
 import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.io.r2dbc.metrics.YdbMetrics;
 import tech.ydb.io.r2dbc.query.OperationType;
 import tech.ydb.io.r2dbc.result.YdbResult;
 import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.table.query.stats.QueryStats;
+import tech.ydb.table.result.ResultSetReader;
 
 /**
  * @author Kirill Kurdyukov
@@ -55,21 +59,37 @@ public class ResultExtractor {
     public static Flux<YdbResult> extract(Result<DataQueryResult> dataQueryResultResult,
                                           List<OperationType> operationTypes,
                                           boolean failOnTruncated
+    ) {
+        return extract(dataQueryResultResult, operationTypes, failOnTruncated, null);
+    }
+
+    /**
+     * Results of the data query by operation type, with the statistics of the query if they were collected.
+     *
+     * @param metrics records the decode time of the rows of the results, null to not measure
+     */
+    public static Flux<YdbResult> extract(Result<DataQueryResult> dataQueryResultResult,
+                                          List<OperationType> operationTypes,
+                                          boolean failOnTruncated,
+                                          @Nullable YdbMetrics metrics
     ) {
         try {
             Mono<DataQueryResult> dataQueryResultMono =
                     ResultExtractor.extract(dataQueryResultResult);
 
             return dataQueryResultMono.flatMapMany(result -> {
+                QueryStats queryStats = result.hasQueryStats() ? result.getQueryStats() : null;
                 List<YdbResult> results = new ArrayList<>();
                 for (int opIndex = 0, resSetIndex = 0; opIndex < operationTypes.size(); opIndex++) {
-                    results.add(switch (operationTypes.get(opIndex)) {
-                        case SELECT -> new YdbResult(result.getResultSet(resSetIndex++), failOnTruncated);
+                    YdbResult ydbResult = switch (operationTypes.get(opIndex)) {
+                        case SELECT -> new YdbResult(result.getResultSet(resSetIndex++), failOnTruncated,
+                                metrics);
                         case UPDATE -> YdbResult.UPDATE_RESULT;
                         case SCHEME -> throw new IllegalStateException(
                                 "DDL operation not support in executeDataQuery"
                         );
-                    });
+                    };
+                    results.add(queryStats == null ? ydbResult : ydbResult.withQueryStats(queryStats));
                 }
 
                 return Flux.fromIterable(results);
@@ -79,6 +99,20 @@ public class ResultExtractor {
         }
     }
 
+    /**
+     * Results of the result sets of a query with SELECT statements only, one result per result set.
+     */
+    public static Flux<YdbResult> extract(List<ResultSetReader> resultSets,
+                                          boolean failOnTruncated,
+                                          @Nullable YdbMetrics metrics) {
+        List<YdbResult> results = new ArrayList<>(resultSets.size());
+        for (ResultSetReader resultSet : resultSets) {
+            results.add(new YdbResult(resultSet, failOnTruncated, metrics));
+        }
+
+        return Flux.fromIterable(results);
+    }
+
     public static Mono<Void> extract(Status status) {
         try {
             status.expectSuccess();
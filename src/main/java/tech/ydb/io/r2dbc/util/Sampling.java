@@ -0,0 +1,36 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.util;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class Sampling {
+
+    private Sampling() {
+    }
+
+    /**
+     * @param percent percent of the sampled calls, 100 and above samples every call
+     * @return whether the call is sampled
+     */
+    public static boolean sample(int percent) {
+        return percent >= 100 || ThreadLocalRandom.current().nextInt(100) < percent;
+    }
+}
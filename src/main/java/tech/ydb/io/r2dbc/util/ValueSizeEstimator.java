@@ -0,0 +1,80 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc.util;
+
+import com.google.common.base.Utf8;
+import tech.ydb.table.values.DecimalValue;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.OptionalValue;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.StructValue;
+import tech.ydb.table.values.Value;
+
+/**
+ * Estimates the serialized size of values by their type and length, to split requests without serializing
+ * the values twice. Only unusual container types are serialized to protobuf for the estimate.
+ *
+ * @author Egor Kuleshov
+ */
+public final class ValueSizeEstimator {
+    private static final int VALUE_OVERHEAD = 2;
+
+    private ValueSizeEstimator() {
+    }
+
+    /**
+     * @param value value to send
+     * @return estimated serialized size of the value in bytes
+     */
+    public static long estimateSize(Value<?> value) {
+        if (value instanceof OptionalValue optionalValue) {
+            return optionalValue.isPresent() ? estimateSize(optionalValue.get()) : VALUE_OVERHEAD;
+        }
+        if (value instanceof PrimitiveValue primitiveValue) {
+            return VALUE_OVERHEAD + switch (primitiveValue.getType()) {
+                case Bytes -> primitiveValue.getBytesUnsafe().length;
+                case Yson -> primitiveValue.getYsonUnsafe().length;
+                case Text -> Utf8.encodedLength(primitiveValue.getText());
+                case Json -> Utf8.encodedLength(primitiveValue.getJson());
+                case JsonDocument -> Utf8.encodedLength(primitiveValue.getJsonDocument());
+                case Uuid -> 16;
+                default -> 8;
+            };
+        }
+        if (value instanceof DecimalValue) {
+            return VALUE_OVERHEAD + 16;
+        }
+        if (value instanceof ListValue listValue) {
+            long size = VALUE_OVERHEAD;
+            for (int i = 0; i < listValue.size(); i++) {
+                size += estimateSize(listValue.get(i));
+            }
+
+            return size;
+        }
+        if (value instanceof StructValue structValue) {
+            long size = VALUE_OVERHEAD;
+            for (int i = 0; i < structValue.getMembersCount(); i++) {
+                size += estimateSize(structValue.getMemberValue(i));
+            }
+
+            return size;
+        }
+
+        return value.toPb().getSerializedSize();
+    }
+}
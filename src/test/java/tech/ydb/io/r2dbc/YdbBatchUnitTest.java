@@ -25,6 +25,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 import tech.ydb.io.r2dbc.query.QueryType;
 import tech.ydb.io.r2dbc.query.YdbQuery;
+import tech.ydb.io.r2dbc.query.YdbSqlParser;
 import tech.ydb.io.r2dbc.result.YdbResult;
 import tech.ydb.io.r2dbc.statement.YdbDDLStatement;
 import tech.ydb.io.r2dbc.statement.YdbDMLStatement;
@@ -124,6 +125,29 @@ public class YdbBatchUnitTest {
         Mockito.verify(ydbConnection, Mockito.never()).executeDataQuery(any(), any(), any());
     }
 
+    @Test
+    public void lambdaTest() {
+        YdbConnection ydbConnection = Mockito.mock(YdbConnection.class);
+        YdbContext ydbContext = Mockito.mock(YdbContext.class);
+        String sql = "$ids = SELECT ListMap(AsList(1, 2), ($v) -> ($v + 1));\nSELECT * FROM t WHERE id IN $ids";
+        YdbQuery query = YdbSqlParser.parse(sql);
+
+        Mockito.when(ydbConnection.createStatement(any(YdbQuery.class)))
+                .thenReturn(new YdbDMLStatement(query, ydbConnection));
+        Mockito.when(ydbContext.fetchYdbQuery(Mockito.any())).thenReturn(query);
+        Mockito.when(ydbConnection.executeDataQuery(Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(Flux.just(YdbResult.UPDATE_RESULT));
+
+        new YdbBatch(ydbConnection, ydbContext)
+                .add(sql)
+                .execute()
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .verifyComplete();
+
+        Mockito.verify(ydbConnection).executeDataQuery(eq(sql), any(), any());
+    }
+
     @Test
     public void parametersExceptionTest() {
         YdbConnection ydbConnection = Mockito.mock(YdbConnection.class);
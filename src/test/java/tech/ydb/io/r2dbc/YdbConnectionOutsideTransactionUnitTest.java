@@ -16,11 +16,15 @@
 
 package tech.ydb.io.r2dbc;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.IsolationLevel;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -28,6 +32,7 @@ import tech.ydb.core.Result;
 import tech.ydb.core.Status;
 import tech.ydb.core.StatusCode;
 import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.io.r2dbc.options.OperationOptions;
 import tech.ydb.io.r2dbc.query.OperationType;
 import tech.ydb.io.r2dbc.result.YdbResult;
 import tech.ydb.io.r2dbc.settings.YdbTxSettings;
@@ -36,12 +41,18 @@ import tech.ydb.io.r2dbc.state.CloseState;
 import tech.ydb.io.r2dbc.state.InsideTransactionState;
 import tech.ydb.io.r2dbc.state.YdbConnectionState;
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.proto.YdbQueryStats;
 import tech.ydb.proto.table.YdbTable;
 import tech.ydb.table.Session;
 import tech.ydb.table.impl.PooledTableClient;
 import tech.ydb.table.query.DataQueryResult;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.query.stats.QueryStats;
+import tech.ydb.table.query.stats.QueryStatsCollectionMode;
+import tech.ydb.table.settings.ExecuteDataQuerySettings;
 import tech.ydb.table.transaction.Transaction;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -153,6 +164,74 @@ public class YdbConnectionOutsideTransactionUnitTest {
         Mockito.verify(session).close();
     }
 
+    @Test
+    public void executeDataQueryStatsTest() {
+        List<QueryStats> listened = new ArrayList<>();
+        YdbContext statsContext = new YdbContext(client, new OperationsConfig(new OptionExtractor(
+                ConnectionFactoryOptions.builder()
+                        .option(OperationOptions.QUERY_STATS_MODE, QueryStatsCollectionMode.BASIC)
+                        .option(OperationOptions.QUERY_STATS_LISTENER, (yql, queryStats) -> listened.add(queryStats))
+                        .build())));
+        Session session = mock(Session.class);
+        when(session.executeDataQuery(any(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(
+                Result.success(new DataQueryResult(YdbTable.ExecuteQueryResult.newBuilder()
+                        .setQueryStats(YdbQueryStats.QueryStats.newBuilder().setProcessCpuTimeUs(10))
+                        .build()))));
+        when(client.createSession(any())).thenReturn(CompletableFuture.completedFuture(Result.success(session)));
+
+        YdbConnection queryExecutor = new YdbConnection(statsContext,
+                new OutsideTransactionState(statsContext, statsContext.getDefaultYdbTxSettings()));
+
+        queryExecutor.executeDataQuery("test", Params.empty(), List.of(OperationType.UPDATE))
+                .map(result -> result.getQueryStats().getProcessCpuTimeUs())
+                .as(StepVerifier::create)
+                .expectNext(10L)
+                .verifyComplete();
+
+        Assertions.assertEquals(1, listened.size());
+        Assertions.assertEquals(10L, listened.get(0).getProcessCpuTimeUs());
+        Assertions.assertNull(YdbResult.UPDATE_RESULT.getQueryStats());
+        ArgumentCaptor<ExecuteDataQuerySettings> settings = ArgumentCaptor.forClass(ExecuteDataQuerySettings.class);
+        Mockito.verify(session).executeDataQuery(eq("test"), any(), eq(Params.empty()), settings.capture());
+        Assertions.assertEquals(QueryStatsCollectionMode.BASIC, settings.getValue().collectStats());
+    }
+
+    @Test
+    public void executeDataQueryResultCacheTest() {
+        YdbContext cacheContext = new YdbContext(client, new OperationsConfig(new OptionExtractor(
+                ConnectionFactoryOptions.builder()
+                        .option(OperationOptions.RESULT_CACHE_MAX_BYTES, 1024 * 1024)
+                        .build())));
+        Session session = mock(Session.class);
+        when(session.executeDataQuery(any(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(
+                Result.success(new DataQueryResult(YdbTable.ExecuteQueryResult.newBuilder()
+                        .addResultSets(ValueProtos.ResultSet.newBuilder()
+                                .addColumns(ValueProtos.Column.newBuilder().setName("id")
+                                        .setType(PrimitiveType.Int32.toPb()))
+                                .addRows(ValueProtos.Value.newBuilder().addItems(PrimitiveValue.newInt32(7).toPb())))
+                        .build()))));
+        when(client.createSession(any())).thenReturn(CompletableFuture.completedFuture(Result.success(session)));
+
+        YdbTxSettings staleSettings = YdbTxSettings.defaultSettings();
+        staleSettings.setIsolationLevel(IsolationLevel.valueOf("staleReadOnly"));
+        YdbConnection staleConnection = new YdbConnection(cacheContext,
+                new OutsideTransactionState(cacheContext, staleSettings));
+        YdbConnection serializableConnection = new YdbConnection(cacheContext,
+                new OutsideTransactionState(cacheContext, YdbTxSettings.defaultSettings()));
+
+        for (YdbConnection connection : List.of(staleConnection, staleConnection, serializableConnection)) {
+            connection.executeDataQuery("test", Params.empty(), List.of(OperationType.SELECT))
+                    .flatMap(result -> result.map((row, rowMetadata) -> row.get("id", Integer.class)))
+                    .as(StepVerifier::create)
+                    .expectNext(7)
+                    .verifyComplete();
+        }
+
+        Mockito.verify(session, Mockito.times(2)).executeDataQuery(eq("test"), any(), any(), any());
+        Assertions.assertEquals(1, cacheContext.getResultCacheStats().hitCount());
+        Assertions.assertEquals(0.5, cacheContext.getResultCacheStats().hitRate());
+    }
+
     @Test
     public void executeDataQueryErrorTest() {
         Session session = mock(Session.class);
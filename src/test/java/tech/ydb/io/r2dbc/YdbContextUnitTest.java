@@ -16,14 +16,41 @@
 
 package tech.ydb.io.r2dbc;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.google.common.cache.CacheStats;
 import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.R2dbcBadGrammarException;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.io.r2dbc.metrics.YdbMetrics;
 import tech.ydb.io.r2dbc.options.OperationOptions;
 import tech.ydb.io.r2dbc.query.YdbQuery;
 import tech.ydb.io.r2dbc.query.YdbSqlParser;
+import tech.ydb.proto.table.YdbTable;
+import tech.ydb.table.Session;
+import tech.ydb.table.SessionPoolStats;
 import tech.ydb.table.impl.PooledTableClient;
+import tech.ydb.table.query.DataQuery;
+import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.table.transaction.Transaction;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 
 /**
  * @author Egor Kuleshov
@@ -34,7 +61,7 @@ public class YdbContextUnitTest {
     @Test
     public void statementCacheTest() {
         try (MockedStatic<YdbSqlParser> parser = Mockito.mockStatic(YdbSqlParser.class)) {
-            parser.when(() -> YdbSqlParser.parse("test"))
+            parser.when(() -> YdbSqlParser.parse("test", false))
                     .thenReturn(ydbQuery);
 
             YdbContext ydbContext = new YdbContext(
@@ -47,14 +74,14 @@ public class YdbContextUnitTest {
             ydbContext.fetchYdbQuery("test");
             ydbContext.fetchYdbQuery("test");
 
-            parser.verify(() -> YdbSqlParser.parse("test"));
+            parser.verify(() -> YdbSqlParser.parse("test", false));
         }
     }
 
     @Test
     public void statementWithoutCacheTest() {
         try (MockedStatic<YdbSqlParser> parser = Mockito.mockStatic(YdbSqlParser.class)) {
-            parser.when(() -> YdbSqlParser.parse("test"))
+            parser.when(() -> YdbSqlParser.parse("test", false))
                     .thenReturn(ydbQuery);
 
             YdbContext ydbContext = new YdbContext(
@@ -67,7 +94,7 @@ public class YdbContextUnitTest {
             ydbContext.fetchYdbQuery("test");
             ydbContext.fetchYdbQuery("test");
 
-            parser.verify(() -> YdbSqlParser.parse("test"), Mockito.times(2));
+            parser.verify(() -> YdbSqlParser.parse("test", false), Mockito.times(2));
         }
     }
 
@@ -76,9 +103,9 @@ public class YdbContextUnitTest {
         YdbQuery ydbQuery2 = Mockito.mock(YdbQuery.class);
 
         try (MockedStatic<YdbSqlParser> parser = Mockito.mockStatic(YdbSqlParser.class)) {
-            parser.when(() -> YdbSqlParser.parse("test"))
+            parser.when(() -> YdbSqlParser.parse("test", false))
                     .thenReturn(ydbQuery);
-            parser.when(() -> YdbSqlParser.parse("test2"))
+            parser.when(() -> YdbSqlParser.parse("test2", false))
                     .thenReturn(ydbQuery2);
 
             YdbContext ydbContext = new YdbContext(
@@ -93,8 +120,169 @@ public class YdbContextUnitTest {
             ydbContext.fetchYdbQuery("test2");
             ydbContext.fetchYdbQuery("test2");
 
-            parser.verify(() -> YdbSqlParser.parse("test"), Mockito.times(1));
-            parser.verify(() -> YdbSqlParser.parse("test"), Mockito.times(1));
+            parser.verify(() -> YdbSqlParser.parse("test", false), Mockito.times(1));
+            parser.verify(() -> YdbSqlParser.parse("test", false), Mockito.times(1));
+        }
+    }
+
+    @Test
+    public void statementCacheMetricsTest() {
+        YdbMetrics metrics = Mockito.mock(YdbMetrics.class);
+        YdbContext ydbContext = new YdbContext(
+                Mockito.mock(PooledTableClient.class),
+                new OperationsConfig(new OptionExtractor(ConnectionFactoryOptions.builder()
+                        .option(OperationOptions.STATEMENT_CACHE_SIZE, 1)
+                        .option(OperationOptions.METRICS, metrics)
+                        .build()))
+        );
+
+        ydbContext.fetchYdbQuery("SELECT 1");
+        ydbContext.fetchYdbQuery("SELECT 1");
+        ydbContext.fetchYdbQuery("SELECT 2");
+
+        Assertions.assertSame(metrics, ydbContext.getMetrics());
+        Mockito.verify(metrics).cacheHit(YdbMetrics.CacheType.STATEMENT);
+        Mockito.verify(metrics, Mockito.times(2)).cacheMiss(YdbMetrics.CacheType.STATEMENT);
+        Mockito.verify(metrics).cacheEviction(YdbMetrics.CacheType.STATEMENT);
+    }
+
+    @Test
+    public void statementCacheStatsTest() {
+        YdbContext ydbContext = contextWithCacheSize(1);
+
+        ydbContext.fetchYdbQuery("SELECT 1");
+        ydbContext.fetchYdbQuery("SELECT 1");
+        ydbContext.fetchYdbQuery("SELECT 2");
+
+        CacheStats stats = ydbContext.getStatementCacheStats();
+        Assertions.assertEquals(1, stats.hitCount());
+        Assertions.assertEquals(2, stats.missCount());
+        Assertions.assertEquals(1, stats.evictionCount());
+        Assertions.assertNull(contextWithCacheSize(0).getStatementCacheStats());
+    }
+
+    @Test
+    public void statementCacheParseOnceTest() throws Exception {
+        YdbContext ydbContext = contextWithCacheSize(16);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<YdbQuery>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return ydbContext.fetchYdbQuery("SELECT * FROM test WHERE id = ?");
+                }));
+            }
+            start.countDown();
+
+            YdbQuery first = futures.get(0).get();
+            for (Future<YdbQuery> future : futures) {
+                Assertions.assertSame(first, future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assertions.assertEquals(1, ydbContext.getStatementCacheStats().loadCount());
+    }
+
+    @Test
+    public void statementCacheParseErrorTest() {
+        YdbContext ydbContext = contextWithCacheSize(1);
+
+        Assertions.assertThrows(R2dbcBadGrammarException.class, () -> ydbContext.fetchYdbQuery("unknown 1"));
+    }
+
+    private static YdbContext contextWithCacheSize(int size) {
+        return new YdbContext(
+                Mockito.mock(PooledTableClient.class),
+                new OperationsConfig(new OptionExtractor(ConnectionFactoryOptions.builder()
+                        .option(OperationOptions.STATEMENT_CACHE_SIZE, size)
+                        .build()))
+        );
+    }
+
+    @Test
+    public void warmUpTest() {
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        SessionPoolStats sessionPoolStats = Mockito.mock(SessionPoolStats.class);
+        Mockito.when(sessionPoolStats.getMinSize()).thenReturn(2);
+        Mockito.when(tableClient.sessionPoolStats()).thenReturn(sessionPoolStats);
+        Session first = mockPreparingSession();
+        Session second = mockPreparingSession();
+        Mockito.when(tableClient.createSession(any())).thenReturn(
+                CompletableFuture.completedFuture(Result.success(first)),
+                CompletableFuture.completedFuture(Result.success(second)));
+        YdbConnectionFactory connectionFactory = new YdbConnectionFactory(
+                new YdbContext(tableClient, OperationsConfig.defaultConfig()));
+
+        connectionFactory.warmUp(Map.of("SELECT * FROM test WHERE id = ?", List.of(1L)))
+                .as(StepVerifier::create)
+                .verifyComplete();
+
+        for (Session session : List.of(first, second)) {
+            Mockito.verify(session).prepareDataQuery(
+                    eq("DECLARE $jp1 AS Int64;\nSELECT * FROM test WHERE id = $jp1"), any());
+            Mockito.verify(session).close();
         }
     }
+
+    @Test
+    public void warmUpWithoutParametersTest() {
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        YdbConnectionFactory connectionFactory = new YdbConnectionFactory(
+                new YdbContext(tableClient, OperationsConfig.defaultConfig()));
+
+        connectionFactory.warmUp(List.of("SELECT * FROM test WHERE id = ?"))
+                .as(StepVerifier::create)
+                .verifyError(IllegalArgumentException.class);
+        Mockito.verify(tableClient, Mockito.never()).createSession(any());
+    }
+
+    @Test
+    public void inTransactionRetryTest() {
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        Session session = Mockito.mock(Session.class);
+        Transaction transaction = Mockito.mock(Transaction.class);
+        Mockito.when(transaction.getId()).thenReturn("tx");
+        Mockito.when(session.beginTransaction(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(transaction)));
+        Mockito.when(session.executeDataQuery(any(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(
+                Result.success(new DataQueryResult(YdbTable.ExecuteQueryResult.newBuilder()
+                        .setTxMeta(YdbTable.TransactionMeta.newBuilder().setId("tx"))
+                        .build()))));
+        Mockito.when(session.commitTransaction(any(), any())).thenReturn(
+                CompletableFuture.completedFuture(Status.of(StatusCode.ABORTED)),
+                CompletableFuture.completedFuture(Status.SUCCESS));
+        Mockito.when(session.rollbackTransaction(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(Status.SUCCESS));
+        Mockito.when(tableClient.createSession(any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(session)));
+        YdbConnectionFactory connectionFactory = new YdbConnectionFactory(new YdbContext(tableClient,
+                new OperationsConfig(new OptionExtractor(ConnectionFactoryOptions.builder()
+                        .option(OperationOptions.RETRY_MAX_RETRIES, 3)
+                        .build()))));
+
+        connectionFactory.inTransaction(connection -> connection.createStatement("UPSERT INTO t (id) VALUES (1)")
+                        .execute()
+                        .then(Mono.just(1)))
+                .as(StepVerifier::create)
+                .expectNext(1)
+                .verifyComplete();
+
+        Mockito.verify(session, Mockito.times(2)).beginTransaction(any(), any());
+        Mockito.verify(session, Mockito.times(2)).executeDataQuery(any(), any(), any(), any());
+        Mockito.verify(session, Mockito.times(2)).commitTransaction(any(), any());
+        Mockito.verify(session).rollbackTransaction(any(), any());
+    }
+
+    private static Session mockPreparingSession() {
+        Session session = Mockito.mock(Session.class);
+        Mockito.when(session.prepareDataQuery(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(Mockito.mock(DataQuery.class))));
+
+        return session;
+    }
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package tech.ydb.io.r2dbc;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import tech.ydb.core.Issue;
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.proto.table.YdbTable;
+import tech.ydb.table.Session;
+import tech.ydb.table.query.DataQuery;
+import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.settings.ExecuteDataQuerySettings;
+import tech.ydb.table.transaction.TxControl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class YdbPreparedQueryCacheUnitTest {
+    private static final String TEST_QUERY = "testQuery";
+    private static final String TEST_SESSION_ID = "test_session_id";
+    private static final String TEST_TX_ID = "test_tx_id";
+
+    @Test
+    public void prepareOnceTest() {
+        Session session = mockSession(TEST_SESSION_ID);
+        DataQuery dataQuery = mockDataQuery(Result.success(emptyResult()));
+        Mockito.when(session.prepareDataQuery(eq(TEST_QUERY), any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(dataQuery)));
+
+        YdbPreparedQueryCache cache = new YdbPreparedQueryCache(1);
+        execute(cache, session);
+        execute(cache, session);
+
+        Mockito.verify(session).prepareDataQuery(eq(TEST_QUERY), any());
+        Mockito.verify(dataQuery, Mockito.times(2)).execute(any(), any(), any());
+        Mockito.verify(session, Mockito.never()).executeDataQuery(any(), any(), any(), any());
+        Assertions.assertEquals(1, cache.size(TEST_SESSION_ID));
+    }
+
+    @Test
+    public void prepareFailTest() {
+        Session session = mockSession(TEST_SESSION_ID);
+        Mockito.when(session.prepareDataQuery(eq(TEST_QUERY), any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.fail(Status.of(StatusCode.GENERIC_ERROR))));
+
+        YdbPreparedQueryCache cache = new YdbPreparedQueryCache(1);
+
+        Assertions.assertEquals(StatusCode.GENERIC_ERROR, execute(cache, session).getStatus().getCode());
+        Assertions.assertEquals(0, cache.size(TEST_SESSION_ID));
+    }
+
+    @Test
+    public void reprepareOnNotFoundTest() {
+        Session session = mockSession(TEST_SESSION_ID);
+        DataQuery evicted = mockDataQuery(Result.fail(Status.of(StatusCode.NOT_FOUND)));
+        DataQuery dataQuery = mockDataQuery(Result.success(emptyResult()));
+        Mockito.when(session.prepareDataQuery(eq(TEST_QUERY), any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(evicted)))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(dataQuery)));
+
+        YdbPreparedQueryCache cache = new YdbPreparedQueryCache(1);
+        execute(cache, session);
+
+        Assertions.assertTrue(execute(cache, session).isSuccess());
+        Mockito.verify(session, Mockito.times(2)).prepareDataQuery(eq(TEST_QUERY), any());
+        Mockito.verify(dataQuery).execute(any(), any(), any());
+    }
+
+    @Test
+    public void reprepareOnQueryNotFoundInTransactionTest() {
+        Session session = mockSession(TEST_SESSION_ID);
+        DataQuery evicted = mockDataQuery(Result.fail(Status.of(StatusCode.NOT_FOUND)
+                .withIssues(Issue.of("Query not found: 42", Issue.Severity.ERROR))));
+        DataQuery dataQuery = mockDataQuery(Result.success(emptyResult()));
+        Mockito.when(session.prepareDataQuery(eq(TEST_QUERY), any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(evicted)))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(dataQuery)));
+
+        YdbPreparedQueryCache cache = new YdbPreparedQueryCache(1);
+        execute(cache, session, TxControl.id(TEST_TX_ID));
+
+        Assertions.assertTrue(execute(cache, session, TxControl.id(TEST_TX_ID)).isSuccess());
+        Mockito.verify(session, Mockito.times(2)).prepareDataQuery(eq(TEST_QUERY), any());
+    }
+
+    @Test
+    public void transactionNotFoundTest() {
+        Session session = mockSession(TEST_SESSION_ID);
+        DataQuery dataQuery = mockDataQuery(Result.fail(Status.of(StatusCode.NOT_FOUND)
+                .withIssues(Issue.of("Transaction not found: " + TEST_TX_ID, Issue.Severity.ERROR))));
+        Mockito.when(session.prepareDataQuery(eq(TEST_QUERY), any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(dataQuery)));
+
+        YdbPreparedQueryCache cache = new YdbPreparedQueryCache(1);
+        execute(cache, session, TxControl.id(TEST_TX_ID));
+
+        Assertions.assertEquals(StatusCode.NOT_FOUND,
+                execute(cache, session, TxControl.id(TEST_TX_ID)).getStatus().getCode());
+        Mockito.verify(session).prepareDataQuery(eq(TEST_QUERY), any());
+        Assertions.assertEquals(1, cache.size(TEST_SESSION_ID));
+    }
+
+    @Test
+    public void badSessionTest() {
+        Session session = mockSession(TEST_SESSION_ID);
+        DataQuery dataQuery = mockDataQuery(Result.fail(Status.of(StatusCode.BAD_SESSION)));
+        Mockito.when(session.prepareDataQuery(eq(TEST_QUERY), any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(dataQuery)));
+
+        YdbPreparedQueryCache cache = new YdbPreparedQueryCache(1);
+        execute(cache, session);
+
+        Assertions.assertEquals(0, cache.size(TEST_SESSION_ID));
+    }
+
+    @Test
+    public void sessionWithoutIdTest() {
+        Session session = mockSession(null);
+        Mockito.when(session.executeDataQuery(any(), any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(emptyResult())));
+
+        execute(new YdbPreparedQueryCache(1), session);
+
+        Mockito.verify(session).executeDataQuery(eq(TEST_QUERY), any(), any(), any());
+        Mockito.verify(session, Mockito.never()).prepareDataQuery(any(), any());
+    }
+
+    private static Result<DataQueryResult> execute(YdbPreparedQueryCache cache, Session session) {
+        return execute(cache, session, TxControl.serializableRw());
+    }
+
+    private static Result<DataQueryResult> execute(YdbPreparedQueryCache cache, Session session,
+                                                   TxControl<?> txControl) {
+        return cache.executeDataQuery(session, TEST_QUERY, txControl, Params.empty(),
+                new ExecuteDataQuerySettings()).join();
+    }
+
+    private static Session mockSession(String id) {
+        Session session = Mockito.mock(Session.class);
+        Mockito.when(session.getId()).thenReturn(id);
+
+        return session;
+    }
+
+    private static DataQuery mockDataQuery(Result<DataQueryResult> result) {
+        DataQuery dataQuery = Mockito.mock(DataQuery.class);
+        Mockito.when(dataQuery.execute(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(result));
+
+        return dataQuery;
+    }
+
+    private static DataQueryResult emptyResult() {
+        return new DataQueryResult(YdbTable.ExecuteQueryResult.getDefaultInstance());
+    }
+}
@@ -0,0 +1,80 @@
+package tech.ydb.io.r2dbc;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import tech.ydb.io.r2dbc.metrics.YdbMetrics;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.proto.table.YdbTable;
+import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class YdbResultCacheUnitTest {
+    private static final String YQL = "DECLARE $p1 AS Int64;\nSELECT id, name FROM t WHERE id = $p1;";
+
+    @Test
+    public void getPutTest() {
+        YdbMetrics metrics = Mockito.mock(YdbMetrics.class);
+        YdbResultCache resultCache = new YdbResultCache(1024 * 1024, Duration.ofMinutes(1), metrics);
+        Params params = Params.of("$p1", PrimitiveValue.newInt64(1));
+
+        Assertions.assertNull(resultCache.get(YQL, params));
+        resultCache.put(YQL, params, dataQueryResult());
+
+        List<ResultSetReader> first = resultCache.get(YQL, Params.of("$p1", PrimitiveValue.newInt64(1)));
+        List<ResultSetReader> second = resultCache.get(YQL, params);
+        Assertions.assertNull(resultCache.get(YQL, Params.of("$p1", PrimitiveValue.newInt64(2))));
+
+        Assertions.assertEquals(1, first.size());
+        Assertions.assertNotSame(first.get(0), second.get(0));
+        ResultSetReader reader = first.get(0);
+        Assertions.assertEquals(2, reader.getRowCount());
+        Assertions.assertEquals("name", reader.getColumnName(1));
+        reader.setRowIndex(0);
+        Assertions.assertEquals(1L, reader.getColumn(0).getInt64());
+        Assertions.assertEquals("a", reader.getColumn(1).getText());
+        reader.setRowIndex(1);
+        Assertions.assertEquals(2L, reader.getColumn(0).getInt64());
+        Assertions.assertFalse(reader.getColumn(1).isOptionalItemPresent());
+
+        Assertions.assertEquals(2, resultCache.stats().hitCount());
+        Assertions.assertEquals(2, resultCache.stats().missCount());
+        Mockito.verify(metrics, Mockito.times(2)).cacheHit(YdbMetrics.CacheType.RESULT);
+        Mockito.verify(metrics, Mockito.times(2)).cacheMiss(YdbMetrics.CacheType.RESULT);
+    }
+
+    @Test
+    public void maxBytesTest() {
+        YdbResultCache resultCache = new YdbResultCache(64, Duration.ofMinutes(1), null);
+        Params params = Params.of("$p1", PrimitiveValue.newInt64(1));
+
+        resultCache.put(YQL, params, dataQueryResult());
+
+        Assertions.assertNull(resultCache.get(YQL, params));
+    }
+
+    private static DataQueryResult dataQueryResult() {
+        return new DataQueryResult(YdbTable.ExecuteQueryResult.newBuilder()
+                .addResultSets(ValueProtos.ResultSet.newBuilder()
+                        .addColumns(ValueProtos.Column.newBuilder().setName("id").setType(PrimitiveType.Int64.toPb()))
+                        .addColumns(ValueProtos.Column.newBuilder().setName("name")
+                                .setType(PrimitiveType.Text.makeOptional().toPb()))
+                        .addRows(ValueProtos.Value.newBuilder()
+                                .addItems(PrimitiveValue.newInt64(1).toPb())
+                                .addItems(PrimitiveType.Text.makeOptional().newValue(PrimitiveValue.newText("a"))
+                                        .toPb()))
+                        .addRows(ValueProtos.Value.newBuilder()
+                                .addItems(PrimitiveValue.newInt64(2).toPb())
+                                .addItems(PrimitiveType.Text.makeOptional().emptyValue().toPb())))
+                .build());
+    }
+}
@@ -0,0 +1,81 @@
+package tech.ydb.io.r2dbc.metrics;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import tech.ydb.core.Result;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class YdbMetricsRecorderUnitTest {
+    @Test
+    public void disabledTest() {
+        Mono<Integer> mono = Mono.just(1);
+        Flux<Integer> flux = Flux.just(1);
+        CompletableFuture<Result<Integer>> future = new CompletableFuture<>();
+
+        Assertions.assertSame(mono, YdbMetricsRecorder.timed(mono, null, YdbMetrics.Phase.ACQUIRE));
+        Assertions.assertSame(flux, YdbMetricsRecorder.inFlight(flux, null));
+        Assertions.assertSame(future, YdbMetricsRecorder.timed(future, null, YdbMetrics.Phase.EXECUTE, 0));
+    }
+
+    @Test
+    public void timedMonoTest() {
+        YdbMetrics metrics = Mockito.mock(YdbMetrics.class);
+
+        YdbMetricsRecorder.timed(Mono.just(1), metrics, YdbMetrics.Phase.ACQUIRE)
+                .as(StepVerifier::create)
+                .expectNext(1)
+                .verifyComplete();
+        YdbMetricsRecorder.timed(Mono.error(new IllegalStateException()), metrics, YdbMetrics.Phase.COMMIT)
+                .as(StepVerifier::create)
+                .verifyError(IllegalStateException.class);
+
+        Mockito.verify(metrics).recordPhase(Mockito.eq(YdbMetrics.Phase.ACQUIRE), ArgumentMatchers.anyLong(),
+                Mockito.eq(true));
+        Mockito.verify(metrics).recordPhase(Mockito.eq(YdbMetrics.Phase.COMMIT), ArgumentMatchers.anyLong(),
+                Mockito.eq(false));
+    }
+
+    @Test
+    public void timedFutureTest() {
+        YdbMetrics metrics = Mockito.mock(YdbMetrics.class);
+
+        YdbMetricsRecorder.timed(CompletableFuture.completedFuture(Result.success(1)), metrics,
+                YdbMetrics.Phase.EXECUTE, System.nanoTime()).join();
+        YdbMetricsRecorder.timed(CompletableFuture.completedFuture(Result.fail(Status.of(StatusCode.ABORTED))),
+                metrics, YdbMetrics.Phase.EXECUTE, System.nanoTime()).join();
+
+        Mockito.verify(metrics).recordPhase(Mockito.eq(YdbMetrics.Phase.EXECUTE), ArgumentMatchers.anyLong(),
+                Mockito.eq(true));
+        Mockito.verify(metrics).recordPhase(Mockito.eq(YdbMetrics.Phase.EXECUTE), ArgumentMatchers.anyLong(),
+                Mockito.eq(false));
+    }
+
+    @Test
+    public void inFlightTest() {
+        YdbMetrics metrics = Mockito.mock(YdbMetrics.class);
+        Flux<Integer> flux = YdbMetricsRecorder.inFlight(Flux.just(1, 2), metrics);
+
+        Mockito.verifyNoInteractions(metrics);
+
+        StepVerifier.create(flux, 1)
+                .expectNext(1)
+                .then(() -> Mockito.verify(metrics).statementStarted())
+                .then(() -> Mockito.verify(metrics, Mockito.never()).statementFinished())
+                .thenRequest(1)
+                .expectNext(2)
+                .verifyComplete();
+
+        Mockito.verify(metrics).statementFinished();
+    }
+}
@@ -0,0 +1,90 @@
+package tech.ydb.io.r2dbc.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.ydb.core.Result;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.proto.YdbQueryStats;
+import tech.ydb.proto.table.YdbTable;
+import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.transaction.TxControl;
+import tech.ydb.table.values.PrimitiveValue;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class YdbSlowQueryLogUnitTest {
+    private static final String YQL = "DECLARE $p1 AS Int32;\nDECLARE $p2 AS Text;\nSELECT * FROM t WHERE a = $p1;";
+
+    private final List<YdbSlowQuery> slowQueries = new ArrayList<>();
+
+    @Test
+    public void sampleTest() {
+        Assertions.assertTrue(new YdbSlowQueryLog(Duration.ofMillis(1), Duration.ZERO, 100, slowQueries::add)
+                .sampleDataQuery());
+        Assertions.assertFalse(new YdbSlowQueryLog(Duration.ofMillis(1), Duration.ZERO, 100, slowQueries::add)
+                .sampleSchemeQuery());
+        Assertions.assertFalse(new YdbSlowQueryLog(Duration.ofMillis(1), Duration.ofMillis(1), 0, slowQueries::add)
+                .sampleDataQuery());
+    }
+
+    @Test
+    public void dataQueryTest() {
+        YdbSlowQueryLog slowQueryLog = new YdbSlowQueryLog(Duration.ofSeconds(1), Duration.ZERO, 100,
+                slowQueries::add);
+        Params params = Params.of("$p1", PrimitiveValue.newInt32(1), "$p2", PrimitiveValue.newText("a"));
+        Result<DataQueryResult> result = Result.success(new DataQueryResult(YdbTable.ExecuteQueryResult.newBuilder()
+                .setTxMeta(YdbTable.TransactionMeta.newBuilder().setId("tx"))
+                .addResultSets(ValueProtos.ResultSet.newBuilder()
+                        .addRows(ValueProtos.Value.getDefaultInstance())
+                        .addRows(ValueProtos.Value.getDefaultInstance()))
+                .setQueryStats(YdbQueryStats.QueryStats.newBuilder()
+                        .addQueryPhases(YdbQueryStats.QueryPhaseStats.newBuilder().setDurationUs(1500)))
+                .build()));
+
+        slowQueryLog.onDataQuery(System.nanoTime(), "session", YQL, TxControl.serializableRw(), params, result);
+        Assertions.assertTrue(slowQueries.isEmpty());
+
+        slowQueryLog.onDataQuery(System.nanoTime() - Duration.ofSeconds(2).toNanos(), "session", YQL,
+                TxControl.serializableRw(), params, result);
+
+        Assertions.assertEquals(1, slowQueries.size());
+        YdbSlowQuery slowQuery = slowQueries.get(0);
+        Assertions.assertEquals(YdbSlowQuery.Kind.DATA, slowQuery.getKind());
+        Assertions.assertEquals("SELECT * FROM t WHERE a = $p1;", slowQuery.getQuery());
+        Assertions.assertEquals(Map.of("$p1", "Int32", "$p2", "Text"), slowQuery.getParameterTypes());
+        Assertions.assertEquals("session", slowQuery.getSessionId());
+        Assertions.assertEquals("tx", slowQuery.getTxId());
+        Assertions.assertEquals(List.of(2), slowQuery.getRowCounts());
+        Assertions.assertEquals(List.of(Duration.ofNanos(1_500_000)), slowQuery.getPhases());
+        Assertions.assertTrue(slowQuery.getElapsed().compareTo(Duration.ofSeconds(2)) >= 0);
+        Assertions.assertTrue(slowQuery.isSuccess());
+        Assertions.assertFalse(slowQuery.toString().contains("\n"));
+    }
+
+    @Test
+    public void schemeQueryTest() {
+        YdbSlowQueryLog slowQueryLog = new YdbSlowQueryLog(Duration.ZERO, Duration.ofSeconds(1), 100,
+                slowQueries::add);
+
+        slowQueryLog.onSchemeQuery(System.nanoTime() - Duration.ofSeconds(2).toNanos(), "session",
+                "CREATE TABLE t (a Int32, PRIMARY KEY (a));", false);
+
+        Assertions.assertEquals(1, slowQueries.size());
+        Assertions.assertEquals(YdbSlowQuery.Kind.SCHEME, slowQueries.get(0).getKind());
+        Assertions.assertNull(slowQueries.get(0).getTxId());
+        Assertions.assertFalse(slowQueries.get(0).isSuccess());
+    }
+
+    @Test
+    public void normalizeTest() {
+        Assertions.assertEquals("SELECT * FROM t WHERE a = $p1;", YdbSlowQueryLog.normalize(YQL));
+        Assertions.assertEquals("SELECT 1;", YdbSlowQueryLog.normalize("SELECT 1;"));
+    }
+}
@@ -0,0 +1,67 @@
+package tech.ydb.io.r2dbc.query;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tech.ydb.io.r2dbc.statement.binding.Binding;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.StructType;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class YdbBatchTemplateTest {
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "UPSERT INTO t (id, name) VALUES (?, ?)",
+            "insert into `dir/t`(`id`,name) values(?,?);",
+            "REPLACE INTO t (name, id) VALUES (?, ?)"
+    })
+    void parseTest(String sql) {
+        Assertions.assertNotNull(YdbSqlParser.parse(sql).getBatchTemplate());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "SELECT ?",
+            "UPSERT INTO t (id, name) VALUES (?, 'name')",
+            "UPSERT INTO t (id, name) VALUES (?, ?), (?, ?)",
+            "UPSERT INTO t (id, id) VALUES (?, ?)",
+            "UPSERT INTO t SELECT ? AS id",
+            "UPDATE t SET name = ? WHERE id = ?",
+            "UPSERT INTO t (id) VALUES (?); UPSERT INTO t (id) VALUES (?)"
+    })
+    void parseNotSupportedTest(String sql) {
+        Assertions.assertNull(YdbSqlParser.parse(sql).getBatchTemplate());
+    }
+
+    @Test
+    void batchTest() {
+        YdbQuery query = YdbSqlParser.parse("UPSERT INTO `t` (name, id) VALUES (?, ?)");
+        YdbBatchTemplate template = query.getBatchTemplate();
+        Binding first = new Binding(query.getIndexArgNames());
+        first.bind(0, "a");
+        first.bind(1, 1);
+        Binding second = new Binding(query.getIndexArgNames());
+        second.bind(0, "b");
+        second.bind(1, 2);
+
+        ListType batchType = template.getBatchType(first.getTypeSignature());
+        StructType structType = StructType.of("id", PrimitiveType.Int32, "name", PrimitiveType.Text);
+
+        Assertions.assertEquals(ListType.of(structType), batchType);
+        Assertions.assertEquals("DECLARE $batch AS List<Struct<'id': Int32, 'name': Text>>;\n"
+                        + "UPSERT INTO `t` SELECT * FROM AS_TABLE($batch);",
+                template.getYqlQuery(batchType));
+        Assertions.assertEquals(ListValue.of(
+                        structType.newValue("id", PrimitiveValue.newInt32(1), "name", PrimitiveValue.newText("a")),
+                        structType.newValue("id", PrimitiveValue.newInt32(2), "name", PrimitiveValue.newText("b"))),
+                template.toBatchValue(batchType, List.of(first, second)));
+    }
+}
@@ -0,0 +1,113 @@
+package tech.ydb.io.r2dbc.query;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.ydb.io.r2dbc.statement.binding.Binding;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class YdbInListTemplateTest {
+    private static final String IN_LIST_YQL = "DECLARE $jp1 AS List<Int64>;\nDECLARE $jp2 AS Text;\n"
+            + "SELECT * FROM test WHERE id IN $jp1 AND name = $jp2";
+
+    @Test
+    void sameTextForAnyLengthTest() {
+        YdbQuery two = YdbSqlParser.parse("SELECT * FROM test WHERE id IN (?, ?) AND name = ?", true);
+        YdbQuery three = YdbSqlParser.parse("SELECT * FROM test WHERE id in(?,?,?) AND name = ?", true);
+
+        Binding twoBinding = bind(two, 1L, 2L, "a");
+        Binding threeBinding = bind(three, 1L, 2L, 3L, "a");
+
+        Assertions.assertEquals("SELECT * FROM test WHERE id IN ($jp1, $jp2) AND name = $jp3", two.toString());
+        Assertions.assertEquals(IN_LIST_YQL, two.getYqlQuery(twoBinding));
+        Assertions.assertEquals(IN_LIST_YQL.replace("id IN $jp1", "id in $jp1"), three.getYqlQuery(threeBinding));
+
+        Params params = three.toParams(threeBinding);
+        Assertions.assertEquals(ListValue.of(PrimitiveValue.newInt64(1), PrimitiveValue.newInt64(2),
+                PrimitiveValue.newInt64(3)), params.values().get("$jp1"));
+        Assertions.assertEquals(PrimitiveValue.newText("a"), params.values().get("$jp2"));
+        Assertions.assertEquals(2, params.values().size());
+    }
+
+    @Test
+    void disabledTest() {
+        YdbQuery query = YdbSqlParser.parse("SELECT * FROM test WHERE id IN (?, ?) AND name = ?");
+
+        Assertions.assertEquals("DECLARE $jp1 AS Int64;\nDECLARE $jp2 AS Int64;\nDECLARE $jp3 AS Text;\n"
+                + "SELECT * FROM test WHERE id IN ($jp1, $jp2) AND name = $jp3",
+                query.getYqlQuery(bind(query, 1L, 2L, "a")));
+    }
+
+    @Test
+    void collectionTest() {
+        YdbQuery query = YdbSqlParser.parse("SELECT * FROM test WHERE id IN (?) AND name = ?", true);
+        Binding binding = bind(query, List.of(1L, 2L), "a");
+
+        Assertions.assertEquals(IN_LIST_YQL, query.getYqlQuery(binding));
+        Assertions.assertEquals(ListValue.of(PrimitiveValue.newInt64(1), PrimitiveValue.newInt64(2)),
+                query.toParams(binding).values().get("$jp1"));
+    }
+
+    @Test
+    void optionalItemsTest() {
+        YdbQuery query = YdbSqlParser.parse("SELECT * FROM test WHERE id IN (?, ?)", true);
+        Binding binding = new Binding(query.getParameterNames());
+        binding.bind(0, 1L);
+        binding.bindNull(1, Long.class);
+
+        Assertions.assertEquals("DECLARE $jp1 AS List<Int64?>;\nSELECT * FROM test WHERE id IN $jp1",
+                query.getYqlQuery(binding));
+        ListType listType = ListType.of(PrimitiveType.Int64.makeOptional());
+        Assertions.assertEquals(listType.newValue(List.of(
+                        PrimitiveType.Int64.makeOptional().newValue(PrimitiveValue.newInt64(1)),
+                        PrimitiveType.Int64.makeOptional().emptyValue())),
+                query.toParams(binding).values().get("$jp1"));
+    }
+
+    @Test
+    void differentTypesTest() {
+        YdbQuery query = YdbSqlParser.parse("SELECT * FROM test WHERE id IN (?, ?)", true);
+        Binding binding = bind(query, 1L, 2);
+
+        Assertions.assertEquals("DECLARE $jp1 AS Int64;\nDECLARE $jp2 AS Int32;\n"
+                + "SELECT * FROM test WHERE id IN ($jp1, $jp2)", query.getYqlQuery(binding));
+        Assertions.assertEquals(binding.toParams().values(), query.toParams(binding).values());
+    }
+
+    @Test
+    void notInListTest() {
+        YdbQuery min = YdbSqlParser.parse("SELECT Min(?)", true);
+        YdbQuery query = YdbSqlParser.parse("SELECT * FROM test WHERE id IN (?, 1)", true);
+
+        Assertions.assertEquals("DECLARE $jp1 AS Int64;\nSELECT Min($jp1)", min.getYqlQuery(bind(min, 1L)));
+        Assertions.assertEquals("DECLARE $jp1 AS Int64;\nSELECT * FROM test WHERE id IN ($jp1, 1)",
+                query.getYqlQuery(bind(query, 1L)));
+    }
+
+    @Test
+    void emptyCollectionTest() {
+        YdbQuery query = YdbSqlParser.parse("SELECT * FROM test WHERE id IN (?)", true);
+        Binding binding = new Binding(query.getParameterNames());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> binding.bind(0, List.of()));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> binding.bind(0, Arrays.asList(1L, 2)));
+    }
+
+    private static Binding bind(YdbQuery query, Object... values) {
+        Binding binding = new Binding(query.getParameterNames());
+        for (int index = 0; index < values.length; index++) {
+            binding.bind(index, values[index]);
+        }
+
+        return binding;
+    }
+}
@@ -0,0 +1,123 @@
+package tech.ydb.io.r2dbc.query;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import tech.ydb.io.r2dbc.statement.binding.Binding;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class YdbQueryTest {
+    private final YdbQuery query = new YdbQuery("SELECT $jp1, $jp2", List.of("$jp1", "$jp2"), QueryType.DML,
+            List.of(SqlOperation.SELECT));
+
+    @Test
+    void getYqlQueryTest() {
+        Binding binding = new Binding(query.getIndexArgNames());
+        binding.bind(0, 1);
+        binding.bind(1, "test");
+
+        Assertions.assertEquals("DECLARE $jp1 AS Int32;\nDECLARE $jp2 AS Text;\nSELECT $jp1, $jp2",
+                query.getYqlQuery(binding));
+    }
+
+    @Test
+    void getYqlQuerySameTypesTest() {
+        Binding binding = new Binding(query.getIndexArgNames());
+        binding.bind(0, 1);
+        binding.bind(1, "test");
+        Binding other = new Binding(query.getIndexArgNames());
+        other.bind(1, "other");
+        other.bind(0, 2);
+
+        Assertions.assertSame(query.getYqlQuery(binding), query.getYqlQuery(other));
+    }
+
+    @Test
+    void getYqlQueryOtherTypesTest() {
+        Binding binding = new Binding(query.getIndexArgNames());
+        binding.bind(0, 1);
+        binding.bind(1, "test");
+        Binding other = new Binding(query.getIndexArgNames());
+        other.bind(0, 1L);
+        other.bindNull(1, String.class);
+
+        Assertions.assertEquals("DECLARE $jp1 AS Int64;\nDECLARE $jp2 AS Text?;\nSELECT $jp1, $jp2",
+                query.getYqlQuery(other));
+        Assertions.assertNotEquals(query.getYqlQuery(binding), query.getYqlQuery(other));
+    }
+
+    @Test
+    void getYqlQueryNamedTest() {
+        YdbQuery namedQuery = YdbSqlParser.parse("SELECT * FROM test WHERE id = $id AND name = ?");
+        Binding binding = new Binding(namedQuery.getParameterNames());
+        binding.bind(0, "test");
+
+        binding.validate();
+        Assertions.assertEquals("DECLARE $jp1 AS Text;\nSELECT * FROM test WHERE id = $id AND name = $jp1",
+                namedQuery.getYqlQuery(binding));
+
+        binding.bind("$id", 1L);
+        binding.validate();
+
+        Assertions.assertEquals("DECLARE $jp1 AS Text;\nDECLARE $id AS Int64;\n"
+                        + "SELECT * FROM test WHERE id = $id AND name = $jp1",
+                namedQuery.getYqlQuery(binding));
+        Assertions.assertEquals(2, binding.toParams().values().size());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> binding.bind("$other", 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> binding.bind(1, 1));
+    }
+
+    @Test
+    void getYqlQueryPositionalNotBoundTest() {
+        Binding binding = new Binding(query.getIndexArgNames());
+        binding.bind(0, 1);
+
+        Assertions.assertThrows(IllegalArgumentException.class, binding::validate, "Parameters $jp2 not bounded");
+    }
+
+    @Test
+    void getYqlQueryLambdaTest() {
+        YdbQuery lambdaQuery = YdbSqlParser.parse("SELECT ListMap(AsList(1, 2), ($v) -> ($v + 1)) FROM t WHERE id = ?");
+        Binding binding = new Binding(lambdaQuery.getParameterNames());
+        binding.bind(0, 1);
+        binding.validate();
+
+        Assertions.assertEquals(List.of(), lambdaQuery.getNamedArgNames());
+        Assertions.assertEquals("DECLARE $jp1 AS Int32;\n"
+                        + "SELECT ListMap(AsList(1, 2), ($v) -> ($v + 1)) FROM t WHERE id = $jp1",
+                lambdaQuery.getYqlQuery(binding));
+    }
+
+    @Test
+    void getYqlQueryNamedExpressionTest() {
+        YdbQuery namedExpressionQuery = YdbSqlParser.parse("$ids = SELECT id FROM t WHERE v = ?;\n"
+                + "SELECT * FROM t WHERE id IN $ids");
+        Binding binding = new Binding(namedExpressionQuery.getParameterNames());
+        binding.bind(0, "a");
+        binding.validate();
+
+        Assertions.assertEquals(List.of(), namedExpressionQuery.getNamedArgNames());
+        Assertions.assertEquals(List.of(OperationType.SELECT), namedExpressionQuery.getOperationTypes());
+        Assertions.assertEquals("DECLARE $jp1 AS Text;\n$ids = SELECT id FROM t WHERE v = $jp1;\n"
+                        + "SELECT * FROM t WHERE id IN $ids",
+                namedExpressionQuery.getYqlQuery(binding));
+    }
+
+    @Test
+    void getYqlQueryUserDeclareTest() {
+        YdbQuery declareQuery = YdbSqlParser.parse("DECLARE $id AS Int64;\nSELECT * FROM t WHERE id = $id AND v = ?");
+        Binding binding = new Binding(declareQuery.getParameterNames());
+        binding.bind(0, "a");
+        binding.bind("$id", 1L);
+        binding.validate();
+
+        Assertions.assertEquals(List.of(OperationType.SELECT), declareQuery.getOperationTypes());
+        Assertions.assertEquals("DECLARE $jp1 AS Text;\n"
+                        + "DECLARE $id AS Int64;\nSELECT * FROM t WHERE id = $id AND v = $jp1",
+                declareQuery.getYqlQuery(binding));
+        Assertions.assertEquals(2, declareQuery.toParams(binding).values().size());
+    }
+}
@@ -15,20 +15,26 @@ public class YdbSqlParserTest {
 
     static Stream<Object[]> sqlValues() {
         return Stream.of(
-                new Object[]{"SELECT $1", new YdbQuery("SELECT $1", List.of(), QueryType.DML,
+                new Object[]{"SELECT $1", new YdbQuery("SELECT $1", List.of(), List.of("$1"), QueryType.DML,
                         List.of(SqlOperation.SELECT))},
-                new Object[]{"select $1", new YdbQuery("select $1", List.of(), QueryType.DML,
+                new Object[]{"select $1", new YdbQuery("select $1", List.of(), List.of("$1"), QueryType.DML,
                         List.of(SqlOperation.SELECT))},
-                new Object[]{"SELECT $1;", new YdbQuery("SELECT $1;", List.of(), QueryType.DML,
+                new Object[]{"SELECT $1;", new YdbQuery("SELECT $1;", List.of(), List.of("$1"), QueryType.DML,
                         List.of(SqlOperation.SELECT))},
                 new Object[]{"SELECT $1; Insert ?", new YdbQuery("SELECT $1; Insert $jp1", List.of("$jp1"),
-                        QueryType.DML, List.of(SqlOperation.SELECT, SqlOperation.INSERT))},
-                new Object[]{"INSERT $1", new YdbQuery("INSERT $1", List.of(), QueryType.DML,
+                        List.of("$1"), QueryType.DML, List.of(SqlOperation.SELECT, SqlOperation.INSERT))},
+                new Object[]{"INSERT $1", new YdbQuery("INSERT $1", List.of(), List.of("$1"), QueryType.DML,
                         List.of(SqlOperation.INSERT))},
                 new Object[]{"SELECT ?", new YdbQuery("SELECT $jp1", List.of("$jp1"), QueryType.DML,
                         List.of(SqlOperation.SELECT))},
                 new Object[]{"SELECT ? ?", new YdbQuery("SELECT $jp1 $jp2", List.of("$jp1", "$jp2"), QueryType.DML,
                         List.of(SqlOperation.SELECT))},
+                new Object[]{"SELECT $jp1, ?, $jp3, ?", new YdbQuery("SELECT $jp1, $jp2, $jp3, $jp4",
+                        List.of("$jp2", "$jp4"), List.of("$jp1", "$jp3"), QueryType.DML, List.of(SqlOperation.SELECT))},
+                new Object[]{"SELECT '?', \"?\", ? -- ?\n/* ? */", new YdbQuery("SELECT '?', \"?\", $jp1 -- ?\n/* ? */",
+                        List.of("$jp1"), QueryType.DML, List.of(SqlOperation.SELECT))},
+                new Object[]{"SELECT $a, ?, $b, $a, '$c'", new YdbQuery("SELECT $a, $jp1, $b, $a, '$c'",
+                        List.of("$jp1"), List.of("$a", "$b"), QueryType.DML, List.of(SqlOperation.SELECT))},
                 new Object[]{"CREATE TABLE", new YdbQuery("CREATE TABLE", List.of(), QueryType.DDL,
                         List.of(SqlOperation.CREATE))},
                 new Object[]{"DROP TABLE", new YdbQuery("DROP TABLE", List.of(), QueryType.DDL,
@@ -49,4 +55,26 @@ public class YdbSqlParserTest {
                 () -> YdbSqlParser.parse("SELECT ?; CREATE TABLE ?"),
                 "DML and DDL don't support in one query");
     }
+
+    @Test
+    void parserLongInListTest() {
+        int count = 10_000;
+        StringBuilder sql = new StringBuilder("SELECT * FROM test WHERE id IN (");
+        for (int i = 0; i < count; i++) {
+            sql.append(i == 0 ? "?" : ", ?");
+        }
+
+        YdbQuery parsedQuery = YdbSqlParser.parse(sql.append(")").toString());
+
+        Assertions.assertEquals(count, parsedQuery.getIndexArgNames().size());
+        Assertions.assertEquals("$jp" + count, parsedQuery.getIndexArgNames().get(count - 1));
+        Assertions.assertTrue(parsedQuery.toString().endsWith("$jp" + (count - 1) + ", $jp" + count + ")"));
+    }
+
+    @Test
+    void prefixParametersTest() {
+        Assertions.assertEquals("SELECT $p1_a, '$b', \"$c\" -- $d\n FROM t WHERE id = $p1_e /* $f */",
+                YdbSqlParser.prefixParameters("SELECT $a, '$b', \"$c\" -- $d\n FROM t WHERE id = $e /* $f */",
+                        "p1_"));
+    }
 }
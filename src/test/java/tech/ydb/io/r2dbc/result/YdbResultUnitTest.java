@@ -19,6 +19,7 @@ package tech.ydb.io.r2dbc.result;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
 import reactor.test.StepVerifier;
 import reactor.test.StepVerifierOptions;
 import tech.ydb.core.UnexpectedResultException;
@@ -62,6 +63,7 @@ public class YdbResultUnitTest {
         Mockito.when(valueReader.getType()).thenReturn(PrimitiveType.Int32);
         Value value = PrimitiveValue.newInt32(123);
         Mockito.when(valueReader.getValue()).thenReturn(value);
+        Mockito.when(valueReader.getInt32()).thenReturn(value.asData().getInt32());
         Mockito.when(resultSetReader.getRowCount()).thenReturn(1);
         Mockito.when(resultSetReader.getColumnCount()).thenReturn(1);
         Mockito.when(resultSetReader.getColumnName(0)).thenReturn("test");
@@ -102,11 +104,13 @@ public class YdbResultUnitTest {
         Mockito.when(valueReader.getType()).thenReturn(PrimitiveType.Int32);
         Value value = PrimitiveValue.newInt32(123);
         Mockito.when(valueReader.getValue()).thenReturn(value);
+        Mockito.when(valueReader.getInt32()).thenReturn(value.asData().getInt32());
 
         ValueReader valueReader2 = Mockito.mock(ValueReader.class);
         Mockito.when(valueReader2.getType()).thenReturn(PrimitiveType.Int32);
         Value value2 = PrimitiveValue.newInt32(124);
         Mockito.when(valueReader2.getValue()).thenReturn(value2);
+        Mockito.when(valueReader2.getInt32()).thenReturn(value2.asData().getInt32());
 
         Mockito.when(resultSetReader.getColumn(0)).thenReturn(valueReader).thenReturn(valueReader2);
 
@@ -126,4 +130,32 @@ public class YdbResultUnitTest {
                 .thenRequest(1)
                 .verifyComplete();
     }
+
+    @Test
+    public void ofStreamTest() {
+        ResultSetReader first = Mockito.mock(ResultSetReader.class);
+        ResultSetReader second = Mockito.mock(ResultSetReader.class);
+        ValueReader valueReader = Mockito.mock(ValueReader.class);
+        Value firstValue = PrimitiveValue.newInt32(1);
+        Value secondValue = PrimitiveValue.newInt32(2);
+        Mockito.when(valueReader.getValue()).thenReturn(firstValue, secondValue);
+        Mockito.when(valueReader.getInt32()).thenReturn(1, 2);
+        for (ResultSetReader resultSetReader : new ResultSetReader[]{first, second}) {
+            Mockito.when(resultSetReader.getRowCount()).thenReturn(1);
+            Mockito.when(resultSetReader.getColumnCount()).thenReturn(1);
+            Mockito.when(resultSetReader.getColumnName(0)).thenReturn("test");
+            Mockito.when(resultSetReader.getColumnType(0)).thenReturn(PrimitiveType.Int32);
+            Mockito.when(resultSetReader.getColumn(0)).thenReturn(valueReader);
+        }
+
+        YdbResult ydbResult = YdbResult.ofStream(Flux.just(first, second));
+        ydbResult.map((row, rowMetadata) -> row.get("test", Integer.class))
+                .as(StepVerifier::create)
+                .expectNext(1, 2)
+                .verifyComplete();
+        ydbResult.getRowsUpdated()
+                .as(StepVerifier::create)
+                .expectNext(-1L)
+                .verifyComplete();
+    }
 }
@@ -0,0 +1,48 @@
+package tech.ydb.io.r2dbc.result;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.Type;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class YdbRowMetadataCacheUnitTest {
+    @Test
+    public void internSameSchemaTest() {
+        YdbRowMetadata first = YdbRowMetadataCache.intern(mockResultSet("id", PrimitiveType.Int32));
+        YdbRowMetadata second = YdbRowMetadataCache.intern(mockResultSet("id", PrimitiveType.Int32));
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(0, second.getColumnIndex("id"));
+    }
+
+    @Test
+    public void internDifferentSchemaTest() {
+        YdbRowMetadata metadata = YdbRowMetadataCache.intern(mockResultSet("id", PrimitiveType.Int32));
+
+        Assertions.assertNotSame(metadata, YdbRowMetadataCache.intern(mockResultSet("id", PrimitiveType.Int64)));
+        Assertions.assertNotSame(metadata,
+                YdbRowMetadataCache.intern(mockResultSet("id", PrimitiveType.Int32.makeOptional())));
+        Assertions.assertNotSame(metadata, YdbRowMetadataCache.intern(mockResultSet("key", PrimitiveType.Int32)));
+    }
+
+    @Test
+    public void immutableColumnsTest() {
+        YdbRowMetadata metadata = YdbRowMetadataCache.intern(mockResultSet("id", PrimitiveType.Int32));
+
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> metadata.getColumnMetadatas().clear());
+    }
+
+    private static ResultSetReader mockResultSet(String name, Type type) {
+        ResultSetReader resultSetReader = Mockito.mock(ResultSetReader.class);
+        Mockito.when(resultSetReader.getColumnCount()).thenReturn(1);
+        Mockito.when(resultSetReader.getColumnName(0)).thenReturn(name);
+        Mockito.when(resultSetReader.getColumnType(0)).thenReturn(type);
+
+        return resultSetReader;
+    }
+}
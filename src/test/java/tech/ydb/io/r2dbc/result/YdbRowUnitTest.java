@@ -21,7 +21,13 @@ import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import tech.ydb.io.r2dbc.type.YdbType;
+import tech.ydb.proto.ValueProtos;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.ListValue;
 import tech.ydb.table.values.OptionalType;
+import tech.ydb.table.values.PrimitiveType;
 import tech.ydb.table.values.PrimitiveValue;
 
 /**
@@ -81,4 +87,88 @@ public class YdbRowUnitTest {
 
         Assertions.assertThrows(ClassCastException.class, () -> ydbRow.get("test", String.class));
     }
+
+    @Test
+    public void getLazyTest() {
+        ResultSetReader resultSetReader = resultSet();
+        YdbRowMetadata ydbRowMetadata = new YdbRowMetadata(List.of(
+                new YdbColumnMetadata(PrimitiveType.Int64, "id"),
+                new YdbColumnMetadata(PrimitiveType.Text.makeOptional(), "name"),
+                new YdbColumnMetadata(PrimitiveType.Double.makeOptional(), "score")));
+        YdbRow first = new YdbRow(ydbRowMetadata, resultSetReader, 0);
+        YdbRow second = new YdbRow(ydbRowMetadata, resultSetReader, 1);
+
+        Assertions.assertEquals(2L, second.get("id", Long.class));
+        Assertions.assertEquals("a", first.get("name", String.class));
+        Assertions.assertEquals(1L, first.getLong(0));
+        Assertions.assertEquals(0.5, first.getDouble(2));
+        Assertions.assertFalse(first.isNull(2));
+        Assertions.assertTrue(second.isNull(1));
+        Assertions.assertTrue(second.isNull(2));
+        Assertions.assertNull(second.get("name", String.class));
+        Assertions.assertThrows(IllegalStateException.class, () -> second.getDouble(2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> first.getBoolean(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> first.getLong(1));
+    }
+
+    @Test
+    public void materializeTest() {
+        ResultSetReader resultSetReader = resultSet();
+        YdbRowMetadata ydbRowMetadata = new YdbRowMetadata(List.of(
+                new YdbColumnMetadata(PrimitiveType.Int64, "id"),
+                new YdbColumnMetadata(PrimitiveType.Text.makeOptional(), "name"),
+                new YdbColumnMetadata(PrimitiveType.Double.makeOptional(), "score")));
+        YdbRow first = new YdbRow(ydbRowMetadata, resultSetReader, 0).materialize();
+        YdbRow second = new YdbRow(ydbRowMetadata, resultSetReader, 1).materialize();
+        resultSetReader.setRowIndex(1);
+
+        Assertions.assertEquals(1L, first.getLong(0));
+        Assertions.assertEquals("a", first.get("name", String.class));
+        Assertions.assertEquals(0.5, first.getDouble(2));
+        Assertions.assertEquals(2L, second.get("id", Long.class));
+        Assertions.assertTrue(second.isNull(1));
+        Assertions.assertSame(second, second.materialize());
+    }
+
+    @Test
+    public void getPrimitiveTest() {
+        YdbRowMetadata ydbRowMetadata = new YdbRowMetadata(List.of(
+                new YdbColumnMetadata(PrimitiveType.Int32, "id"),
+                new YdbColumnMetadata(PrimitiveType.Bool.makeOptional(), "flag")));
+        YdbRow ydbRow = new YdbRow(ydbRowMetadata, List.of(PrimitiveValue.newInt32(123),
+                PrimitiveType.Bool.makeOptional().emptyValue()));
+
+        Assertions.assertEquals(123, ydbRow.getInt(0));
+        Assertions.assertEquals(123L, ydbRow.getLong(0));
+        Assertions.assertTrue(ydbRow.isNull(1));
+        Assertions.assertThrows(IllegalStateException.class, () -> ydbRow.getBoolean(1));
+    }
+
+    @Test
+    public void getUnsupportedTypeTest() {
+        ListType type = ListType.of(PrimitiveType.Int32);
+        YdbRowMetadata ydbRowMetadata = new YdbRowMetadata(List.of(new YdbColumnMetadata(type, "list")));
+        YdbRow ydbRow = new YdbRow(ydbRowMetadata, List.of(ListValue.of(PrimitiveValue.newInt32(1))));
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ydbRow.get(0));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ydbRow.getLong(0));
+    }
+
+    private static ResultSetReader resultSet() {
+        return ProtoValueReaders.forResultSet(ValueProtos.ResultSet.newBuilder()
+                .addColumns(ValueProtos.Column.newBuilder().setName("id").setType(PrimitiveType.Int64.toPb()))
+                .addColumns(ValueProtos.Column.newBuilder().setName("name")
+                        .setType(PrimitiveType.Text.makeOptional().toPb()))
+                .addColumns(ValueProtos.Column.newBuilder().setName("score")
+                        .setType(PrimitiveType.Double.makeOptional().toPb()))
+                .addRows(ValueProtos.Value.newBuilder()
+                        .addItems(PrimitiveValue.newInt64(1).toPb())
+                        .addItems(PrimitiveType.Text.makeOptional().newValue(PrimitiveValue.newText("a")).toPb())
+                        .addItems(PrimitiveType.Double.makeOptional().newValue(PrimitiveValue.newDouble(0.5)).toPb()))
+                .addRows(ValueProtos.Value.newBuilder()
+                        .addItems(PrimitiveValue.newInt64(2).toPb())
+                        .addItems(PrimitiveType.Text.makeOptional().emptyValue().toPb())
+                        .addItems(PrimitiveType.Double.makeOptional().emptyValue().toPb()))
+                .build());
+    }
 }
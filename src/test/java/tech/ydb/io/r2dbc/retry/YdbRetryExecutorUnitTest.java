@@ -0,0 +1,102 @@
+package tech.ydb.io.r2dbc.retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import tech.ydb.core.Status;
+import tech.ydb.core.StatusCode;
+import tech.ydb.core.UnexpectedResultException;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class YdbRetryExecutorUnitTest {
+    @Test
+    public void retryTransientStatusTest() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        executor(3, 100).retry(failing(attempts, StatusCode.ABORTED, 2), false)
+                .as(StepVerifier::create)
+                .expectNext(3)
+                .verifyComplete();
+    }
+
+    @Test
+    public void maxRetriesTest() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        executor(2, 100).retry(failing(attempts, StatusCode.BAD_SESSION, 5), false)
+                .as(StepVerifier::create)
+                .verifyError(UnexpectedResultException.class);
+        Assertions.assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void notRetryableStatusTest() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        executor(3, 100).retry(failing(attempts, StatusCode.SCHEME_ERROR, 1), true)
+                .as(StepVerifier::create)
+                .verifyError(UnexpectedResultException.class);
+        Assertions.assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void idempotentTest() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        executor(3, 100).retry(failing(attempts, StatusCode.UNDETERMINED, 1), false)
+                .as(StepVerifier::create)
+                .verifyError(UnexpectedResultException.class);
+        Assertions.assertEquals(1, attempts.get());
+
+        attempts.set(0);
+        executor(3, 100).retry(failing(attempts, StatusCode.UNDETERMINED, 1), true)
+                .as(StepVerifier::create)
+                .expectNext(2)
+                .verifyComplete();
+    }
+
+    @Test
+    public void budgetTest() {
+        YdbRetryExecutor executor = executor(3, 1);
+        AtomicInteger attempts = new AtomicInteger();
+
+        executor.retry(failing(attempts, StatusCode.OVERLOADED, 5), false)
+                .as(StepVerifier::create)
+                .verifyError(UnexpectedResultException.class);
+        Assertions.assertEquals(2, attempts.get());
+        Assertions.assertEquals(0, executor.getBudget().available());
+
+        for (int i = 0; i < 10; i++) {
+            executor.getBudget().onSuccess();
+        }
+        Assertions.assertEquals(1, executor.getBudget().available());
+    }
+
+    @Test
+    public void backoffTest() {
+        YdbRetryExecutor executor = executor(3, 100);
+
+        Assertions.assertEquals(Duration.ZERO, executor.backoff(StatusCode.BAD_SESSION, 3));
+        Duration fast = executor.backoff(StatusCode.ABORTED, 2);
+        Assertions.assertTrue(fast.toMillis() >= 2 && fast.toMillis() <= 4, fast.toString());
+        Duration slow = executor.backoff(StatusCode.OVERLOADED, 10);
+        Assertions.assertTrue(slow.toMillis() >= 50 && slow.toMillis() <= 100, slow.toString());
+    }
+
+    private static YdbRetryExecutor executor(int maxRetries, int budget) {
+        return new YdbRetryExecutor(maxRetries, Duration.ofMillis(1), Duration.ofMillis(10), Duration.ofMillis(100),
+                new YdbRetryBudget(budget));
+    }
+
+    private static Mono<Integer> failing(AtomicInteger attempts, StatusCode code, int failures) {
+        return Mono.defer(() -> attempts.incrementAndGet() <= failures
+                ? Mono.error(new UnexpectedResultException("Failed", Status.of(code)))
+                : Mono.just(attempts.get()));
+    }
+}
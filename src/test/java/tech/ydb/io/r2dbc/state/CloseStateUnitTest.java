@@ -9,8 +9,11 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import reactor.test.StepVerifier;
+import tech.ydb.io.r2dbc.settings.YdbReadTableSettings;
 import tech.ydb.io.r2dbc.settings.YdbTxSettings;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.PrimitiveValue;
 
 /**
  * @author Egor Kuleshov
@@ -32,6 +35,27 @@ public class CloseStateUnitTest {
                 .verifyError(IllegalStateException.class);
     }
 
+    @Test
+    public void executeScanQueryTest() {
+        state.executeScanQuery(TEST_QUERY, Params.empty())
+                .as(StepVerifier::create)
+                .verifyError(IllegalStateException.class);
+    }
+
+    @Test
+    public void executeReadTableTest() {
+        state.executeReadTable(TEST_QUERY, new YdbReadTableSettings())
+                .as(StepVerifier::create)
+                .verifyError(IllegalStateException.class);
+    }
+
+    @Test
+    public void executeBulkUpsertTest() {
+        state.executeBulkUpsert(TEST_QUERY, ListValue.of(PrimitiveValue.newInt32(1)))
+                .as(StepVerifier::create)
+                .verifyError(IllegalStateException.class);
+    }
+
     @Test
     public void beginTransactionTest() {
         YdbTxSettings ydbTxSettings = Mockito.mock(YdbTxSettings.class);
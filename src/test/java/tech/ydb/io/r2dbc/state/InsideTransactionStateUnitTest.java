@@ -21,7 +21,9 @@ import java.util.concurrent.CompletableFuture;
 
 import io.r2dbc.spi.IsolationLevel;
 import io.r2dbc.spi.ValidationDepth;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import reactor.test.StepVerifier;
 import tech.ydb.core.Result;
@@ -38,6 +40,7 @@ import tech.ydb.proto.table.YdbTable;
 import tech.ydb.table.Session;
 import tech.ydb.table.query.DataQueryResult;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.transaction.TxControl;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -131,6 +134,57 @@ public class InsideTransactionStateUnitTest {
         Mockito.verify(session).close();
     }
 
+    @Test
+    public void executeDataQueryAndCommitTest() {
+        Session session = Mockito.mock(Session.class);
+        Mockito.when(session.executeDataQuery(any(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(
+                Result.success(new DataQueryResult(YdbTable.ExecuteQueryResult.getDefaultInstance()))));
+        YdbContext ydbContext = Mockito.mock(YdbContext.class);
+        Mockito.when(ydbContext.getOperationsConfig())
+                .thenReturn(OperationsConfig.defaultConfig());
+        YdbTxSettings ydbTxSettings = Mockito.mock(YdbTxSettings.class);
+        Params params = Mockito.mock(Params.class);
+
+        InsideTransactionState state = new InsideTransactionState(ydbContext, TEST_TX_ID, session, ydbTxSettings);
+
+        state.executeDataQueryAndCommit(TEST_QUERY, params, List.of(OperationType.UPDATE))
+                .as(StepVerifier::create)
+                .expectNextMatches(fluxNextStateResult -> fluxNextStateResult.getNextState()
+                        .equals(new OutsideTransactionState(ydbContext, ydbTxSettings)))
+                .verifyComplete();
+
+        ArgumentCaptor<TxControl<?>> txControl = ArgumentCaptor.forClass(TxControl.class);
+        Mockito.verify(session).executeDataQuery(eq(TEST_QUERY), txControl.capture(), eq(params), any());
+        Assertions.assertTrue(txControl.getValue().isCommitTx());
+        Assertions.assertEquals(TEST_TX_ID, txControl.getValue().toPb().getTxId());
+        Mockito.verify(session, Mockito.never()).commitTransaction(any(), any());
+        Mockito.verify(session).close();
+    }
+
+    @Test
+    public void executeDataQueryAndCommitReturnedTxIdTest() {
+        Session session = Mockito.mock(Session.class);
+        Mockito.when(session.executeDataQuery(any(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(
+                Result.success(new DataQueryResult(YdbTable.ExecuteQueryResult.newBuilder()
+                        .setTxMeta(YdbTable.TransactionMeta.newBuilder().setId(TEST_TX_ID))
+                        .build()))));
+        YdbContext ydbContext = Mockito.mock(YdbContext.class);
+        Mockito.when(ydbContext.getOperationsConfig())
+                .thenReturn(OperationsConfig.defaultConfig());
+        YdbTxSettings ydbTxSettings = Mockito.mock(YdbTxSettings.class);
+        Params params = Mockito.mock(Params.class);
+
+        InsideTransactionState state = new InsideTransactionState(ydbContext, TEST_TX_ID, session, ydbTxSettings);
+
+        state.executeDataQueryAndCommit(TEST_QUERY, params, List.of(OperationType.UPDATE))
+                .as(StepVerifier::create)
+                .expectNextMatches(fluxNextStateResult -> fluxNextStateResult.getNextState()
+                        .equals(new OutsideTransactionState(ydbContext, ydbTxSettings)))
+                .verifyComplete();
+
+        Mockito.verify(session).close();
+    }
+
     @Test
     public void executeDataQueryFailTest() {
         Session session = Mockito.mock(Session.class);
@@ -138,6 +192,8 @@ public class InsideTransactionStateUnitTest {
                 Result.fail(Status.of(StatusCode.ABORTED))
         ));
         YdbContext ydbContext = Mockito.mock(YdbContext.class);
+        Mockito.when(ydbContext.getOperationsConfig())
+                .thenReturn(OperationsConfig.defaultConfig());
         YdbTxSettings ydbTxSettings = Mockito.mock(YdbTxSettings.class);
         Params params = Mockito.mock(Params.class);
 
@@ -169,6 +225,22 @@ public class InsideTransactionStateUnitTest {
         Mockito.verify(session, Mockito.never()).close();
     }
 
+    @Test
+    public void executeScanQueryTest() {
+        Session session = Mockito.mock(Session.class);
+        YdbContext ydbContext = Mockito.mock(YdbContext.class);
+        YdbTxSettings ydbTxSettings = Mockito.mock(YdbTxSettings.class);
+
+        InsideTransactionState state = new InsideTransactionState(ydbContext, TEST_TX_ID, session, ydbTxSettings);
+
+        state.executeScanQuery(TEST_QUERY, Params.empty())
+                .as(StepVerifier::create)
+                .verifyError(IllegalStateException.class);
+
+        Mockito.verify(session, Mockito.never()).executeScanQuery(any(), any(), any());
+        Mockito.verify(session, Mockito.never()).close();
+    }
+
     @Test
     public void beginTransactionTest() {
         Session session = Mockito.mock(Session.class);
@@ -0,0 +1,97 @@
+package tech.ydb.io.r2dbc.state;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.r2dbc.spi.IsolationLevel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import reactor.test.StepVerifier;
+import tech.ydb.core.Result;
+import tech.ydb.io.r2dbc.OperationsConfig;
+import tech.ydb.io.r2dbc.YdbContext;
+import tech.ydb.io.r2dbc.query.OperationType;
+import tech.ydb.io.r2dbc.settings.YdbTxSettings;
+import tech.ydb.proto.table.YdbTable;
+import tech.ydb.table.Session;
+import tech.ydb.table.impl.PooledTableClient;
+import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.transaction.TxControl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class LazyTransactionStateUnitTest {
+    private static final String TEST_QUERY = "testQuery";
+    private static final String TEST_TX_ID = "test_tx_id";
+
+    @Test
+    public void beginWithFirstStatementTest() {
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        Session session = Mockito.mock(Session.class);
+        Mockito.when(session.executeDataQuery(any(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(
+                Result.success(new DataQueryResult(YdbTable.ExecuteQueryResult.newBuilder()
+                        .setTxMeta(YdbTable.TransactionMeta.newBuilder().setId(TEST_TX_ID))
+                        .build()))));
+        Mockito.when(tableClient.createSession(any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(session)));
+        YdbContext ydbContext = lazyContext(tableClient);
+        YdbTxSettings ydbTxSettings = ydbContext.getDefaultYdbTxSettings();
+
+        YdbConnectionState state = new OutsideTransactionState(ydbContext, ydbTxSettings)
+                .beginTransaction(ydbTxSettings)
+                .block();
+
+        Assertions.assertInstanceOf(LazyTransactionState.class, state);
+        Mockito.verify(tableClient, Mockito.never()).createSession(any());
+
+        state.executeDataQuery(TEST_QUERY, Params.empty(), List.of(OperationType.UPDATE))
+                .as(StepVerifier::create)
+                .expectNextMatches(nextStateResult -> nextStateResult.getNextState()
+                        .equals(new InsideTransactionState(ydbContext, TEST_TX_ID, session, ydbTxSettings)))
+                .verifyComplete();
+
+        ArgumentCaptor<TxControl<?>> txControl = ArgumentCaptor.forClass(TxControl.class);
+        Mockito.verify(session).executeDataQuery(eq(TEST_QUERY), txControl.capture(), any(), any());
+        Assertions.assertFalse(txControl.getValue().isCommitTx());
+        Assertions.assertTrue(txControl.getValue().toPb().hasBeginTx());
+        Mockito.verify(session, Mockito.never()).beginTransaction(any(), any());
+        Mockito.verify(session, Mockito.never()).close();
+    }
+
+    @Test
+    public void commitWithoutStatementsTest() {
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        YdbContext ydbContext = lazyContext(tableClient);
+        YdbTxSettings ydbTxSettings = ydbContext.getDefaultYdbTxSettings();
+
+        LazyTransactionState state = new LazyTransactionState(ydbContext, ydbTxSettings,
+                ydbContext.getStatementTimeout(), null);
+
+        state.commitTransaction()
+                .as(StepVerifier::create)
+                .expectNext(new OutsideTransactionState(ydbContext, ydbTxSettings))
+                .verifyComplete();
+        state.setIsolationLevel(IsolationLevel.READ_COMMITTED)
+                .as(StepVerifier::create)
+                .verifyError(IllegalStateException.class);
+        state.executeSchemeQuery(TEST_QUERY)
+                .as(StepVerifier::create)
+                .verifyError(IllegalStateException.class);
+
+        Mockito.verify(tableClient, Mockito.never()).createSession(any());
+    }
+
+    private static YdbContext lazyContext(PooledTableClient tableClient) {
+        OperationsConfig operationsConfig = Mockito.spy(OperationsConfig.defaultConfig());
+        Mockito.doReturn(true).when(operationsConfig).isLazyBeginTransaction();
+
+        return new YdbContext(tableClient, operationsConfig);
+    }
+}
@@ -17,29 +17,45 @@
 package tech.ydb.io.r2dbc.state;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import io.r2dbc.spi.ValidationDepth;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import reactor.test.StepVerifier;
 import tech.ydb.core.Result;
 import tech.ydb.core.Status;
 import tech.ydb.core.StatusCode;
 import tech.ydb.core.UnexpectedResultException;
+import tech.ydb.core.grpc.GrpcReadStream;
 import tech.ydb.io.r2dbc.OperationsConfig;
 import tech.ydb.io.r2dbc.YdbContext;
+import tech.ydb.io.r2dbc.settings.YdbReadTableSettings;
 import tech.ydb.io.r2dbc.settings.YdbTxSettings;
 import tech.ydb.io.r2dbc.query.OperationType;
 import tech.ydb.io.r2dbc.result.YdbResult;
 import tech.ydb.proto.ValueProtos;
+import tech.ydb.proto.common.CommonProtos;
 import tech.ydb.proto.table.YdbTable;
 import tech.ydb.table.Session;
+import tech.ydb.table.description.KeyBound;
+import tech.ydb.table.description.KeyRange;
+import tech.ydb.table.description.TableDescription;
 import tech.ydb.table.impl.PooledTableClient;
 import tech.ydb.table.query.DataQueryResult;
 import tech.ydb.table.query.Params;
+import tech.ydb.table.query.ReadTablePart;
+import tech.ydb.table.result.ResultSetReader;
+import tech.ydb.table.result.impl.ProtoValueReaders;
+import tech.ydb.table.settings.ReadTableSettings;
 import tech.ydb.table.transaction.Transaction;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.TupleValue;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -50,6 +66,7 @@ import static org.mockito.ArgumentMatchers.eq;
 public class OutsideTransactionStateUnitTest {
     private static final String TEST_QUERY = "testQuery";
     private static final String TEST_TX_ID = "test_tx_id";
+    private static final String TEST_TABLE = "test_table";
 
     @Test
     public void executeDataQueryTest() {
@@ -443,4 +460,223 @@ public class OutsideTransactionStateUnitTest {
         Mockito.verify(session).keepAlive(any());
         Mockito.verify(session).close();
     }
+
+    @Test
+    public void executeBulkUpsertTest() {
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        Session session = Mockito.mock(Session.class);
+        ListValue rows = ListValue.of(PrimitiveValue.newInt32(1));
+        Mockito.when(session.executeBulkUpsert(eq(TEST_TABLE), eq(rows), any()))
+                .thenReturn(CompletableFuture.completedFuture(Status.SUCCESS));
+        Mockito.when(tableClient.createSession(any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(session)));
+        YdbContext ydbContext = new YdbContext(tableClient, OperationsConfig.defaultConfig());
+
+        OutsideTransactionState state = new OutsideTransactionState(ydbContext, YdbTxSettings.defaultSettings());
+
+        state.executeBulkUpsert(TEST_TABLE, rows)
+                .as(StepVerifier::create)
+                .verifyComplete();
+
+        Mockito.verify(session).executeBulkUpsert(eq(TEST_TABLE), eq(rows), any());
+        Mockito.verify(session).close();
+    }
+
+    @Test
+    public void executeBulkUpsertFailTest() {
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        Session session = Mockito.mock(Session.class);
+        Mockito.when(session.executeBulkUpsert(any(), any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(Status.of(StatusCode.SCHEME_ERROR)));
+        Mockito.when(tableClient.createSession(any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(session)));
+        YdbContext ydbContext = new YdbContext(tableClient, OperationsConfig.defaultConfig());
+
+        OutsideTransactionState state = new OutsideTransactionState(ydbContext, YdbTxSettings.defaultSettings());
+
+        state.executeBulkUpsert(TEST_TABLE, ListValue.of(PrimitiveValue.newInt32(1)))
+                .as(StepVerifier::create)
+                .verifyError(UnexpectedResultException.class);
+
+        Mockito.verify(session).close();
+    }
+
+    @Test
+    public void executeScanQueryTest() {
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        Session session = Mockito.mock(Session.class);
+        GrpcReadStream<ResultSetReader> stream = mockReadStream(
+                CompletableFuture.completedFuture(Status.SUCCESS), resultSet(1, 2), resultSet(3));
+        Mockito.when(session.executeScanQuery(eq(TEST_QUERY), any(), any())).thenReturn(stream);
+        Mockito.when(tableClient.createSession(any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(session)));
+        YdbContext ydbContext = new YdbContext(tableClient, OperationsConfig.defaultConfig());
+
+        OutsideTransactionState state = new OutsideTransactionState(ydbContext, YdbTxSettings.defaultSettings());
+
+        state.executeScanQuery(TEST_QUERY, Params.empty())
+                .flatMap(result -> result.map((row, rowMetadata) -> row.get(0, Integer.class)))
+                .as(StepVerifier::create)
+                .expectNext(1, 2, 3)
+                .verifyComplete();
+
+        Mockito.verify(session).close();
+    }
+
+    @Test
+    public void executeScanQueryFailTest() {
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        Session session = Mockito.mock(Session.class);
+        GrpcReadStream<ResultSetReader> stream = mockReadStream(
+                CompletableFuture.completedFuture(Status.of(StatusCode.GENERIC_ERROR)), resultSet(1));
+        Mockito.when(session.executeScanQuery(eq(TEST_QUERY), any(), any())).thenReturn(stream);
+        Mockito.when(tableClient.createSession(any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(session)));
+        YdbContext ydbContext = new YdbContext(tableClient, OperationsConfig.defaultConfig());
+
+        OutsideTransactionState state = new OutsideTransactionState(ydbContext, YdbTxSettings.defaultSettings());
+
+        state.executeScanQuery(TEST_QUERY, Params.empty())
+                .flatMap(result -> result.map((row, rowMetadata) -> row.get(0, Integer.class)))
+                .as(StepVerifier::create)
+                .expectNext(1)
+                .verifyError(UnexpectedResultException.class);
+
+        Mockito.verify(session).close();
+    }
+
+    @Test
+    public void executeScanQueryCancelTest() {
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        Session session = Mockito.mock(Session.class);
+        GrpcReadStream<ResultSetReader> stream = mockReadStream(new CompletableFuture<>(), resultSet(1, 2));
+        Mockito.when(session.executeScanQuery(eq(TEST_QUERY), any(), any())).thenReturn(stream);
+        Mockito.when(tableClient.createSession(any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(session)));
+        YdbContext ydbContext = new YdbContext(tableClient, OperationsConfig.defaultConfig());
+
+        OutsideTransactionState state = new OutsideTransactionState(ydbContext, YdbTxSettings.defaultSettings());
+
+        state.executeScanQuery(TEST_QUERY, Params.empty())
+                .flatMap(result -> result.map((row, rowMetadata) -> row.get(0, Integer.class)))
+                .take(1)
+                .as(StepVerifier::create)
+                .expectNext(1)
+                .verifyComplete();
+
+        Mockito.verify(stream).cancel();
+        Mockito.verify(session).close();
+    }
+
+    @Test
+    public void executeReadTableTest() {
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        Session session = Mockito.mock(Session.class);
+        GrpcReadStream<ReadTablePart> stream = mockReadStream(CompletableFuture.completedFuture(Status.SUCCESS),
+                readTablePart(1, 2), readTablePart(3));
+        Mockito.when(session.executeReadTable(eq(TEST_TABLE), any())).thenReturn(stream);
+        Mockito.when(tableClient.createSession(any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(session)));
+        YdbContext ydbContext = new YdbContext(tableClient, OperationsConfig.defaultConfig());
+
+        OutsideTransactionState state = new OutsideTransactionState(ydbContext, YdbTxSettings.defaultSettings());
+
+        YdbResult.ofStream(state.executeReadTable(TEST_TABLE, new YdbReadTableSettings()
+                        .columns("id")
+                        .fromKey(TupleValue.of(PrimitiveValue.newInt32(1)), true)
+                        .partitionConcurrency(2)))
+                .map((row, rowMetadata) -> row.get("id", Integer.class))
+                .as(StepVerifier::create)
+                .expectNext(1, 2, 3)
+                .verifyComplete();
+
+        ArgumentCaptor<ReadTableSettings> captor = ArgumentCaptor.forClass(ReadTableSettings.class);
+        Mockito.verify(session).executeReadTable(eq(TEST_TABLE), captor.capture());
+        Assertions.assertEquals(List.of("id"), captor.getValue().getColumns());
+        Assertions.assertEquals(TupleValue.of(PrimitiveValue.newInt32(1)), captor.getValue().getFromKey());
+        Mockito.verify(session, Mockito.never()).describeTable(any(), any());
+        Mockito.verify(session).close();
+    }
+
+    @Test
+    public void executeReadTablePartitionedTest() {
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        Session session = Mockito.mock(Session.class);
+        TableDescription tableDescription = Mockito.mock(TableDescription.class);
+        KeyBound bound = KeyBound.exclusive(TupleValue.of(PrimitiveValue.newInt32(10)));
+        Mockito.when(tableDescription.getKeyRanges()).thenReturn(List.of(
+                new KeyRange(Optional.empty(), Optional.of(bound)),
+                new KeyRange(Optional.of(KeyBound.inclusive(bound.getValue())), Optional.empty())));
+        Mockito.when(session.describeTable(eq(TEST_TABLE), any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(tableDescription)));
+        CompletableFuture<Status> firstStatus = new CompletableFuture<>();
+        GrpcReadStream<ReadTablePart> firstStream = mockReadStream(firstStatus, readTablePart(1, 2));
+        GrpcReadStream<ReadTablePart> secondStream = mockReadStream(
+                CompletableFuture.completedFuture(Status.SUCCESS), readTablePart(10, 11));
+        Mockito.when(session.executeReadTable(eq(TEST_TABLE), any())).thenReturn(firstStream, secondStream);
+        Mockito.when(tableClient.createSession(any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(session)));
+        YdbContext ydbContext = new YdbContext(tableClient, OperationsConfig.defaultConfig());
+
+        OutsideTransactionState state = new OutsideTransactionState(ydbContext, YdbTxSettings.defaultSettings());
+
+        YdbResult.ofStream(state.executeReadTable(TEST_TABLE, new YdbReadTableSettings()
+                        .ordered(true)
+                        .partitionConcurrency(2)))
+                .map((row, rowMetadata) -> row.get("id", Integer.class))
+                .as(StepVerifier::create)
+                .expectNext(1, 2)
+                .then(() -> firstStatus.complete(Status.SUCCESS))
+                .expectNext(10, 11)
+                .verifyComplete();
+
+        ArgumentCaptor<ReadTableSettings> captor = ArgumentCaptor.forClass(ReadTableSettings.class);
+        Mockito.verify(session, Mockito.times(2)).executeReadTable(eq(TEST_TABLE), captor.capture());
+        Assertions.assertNull(captor.getAllValues().get(0).getFromKey());
+        Assertions.assertEquals(bound.getValue(), captor.getAllValues().get(0).getToKey());
+        Assertions.assertEquals(bound.getValue(), captor.getAllValues().get(1).getFromKey());
+        Assertions.assertTrue(captor.getAllValues().get(1).isOrdered());
+        Mockito.verify(secondStream).start(any());
+        Mockito.verify(session, Mockito.times(3)).close();
+    }
+
+    private static ReadTablePart readTablePart(int... ids) {
+        ValueProtos.ResultSet.Builder resultSet = ValueProtos.ResultSet.newBuilder()
+                .addColumns(ValueProtos.Column.newBuilder()
+                        .setName("id")
+                        .setType(PrimitiveType.Int32.toPb()));
+        for (int id : ids) {
+            resultSet.addRows(ValueProtos.Value.newBuilder().addItems(PrimitiveValue.newInt32(id).toPb()));
+        }
+
+        return new ReadTablePart(YdbTable.ReadTableResult.newBuilder().setResultSet(resultSet).build(),
+                CommonProtos.VirtualTimestamp.getDefaultInstance());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> GrpcReadStream<T> mockReadStream(CompletableFuture<Status> status, T... parts) {
+        GrpcReadStream<T> stream = Mockito.mock(GrpcReadStream.class);
+        Mockito.when(stream.start(any())).thenAnswer(invocation -> {
+            GrpcReadStream.Observer<T> observer = invocation.getArgument(0);
+            for (T part : parts) {
+                observer.onNext(part);
+            }
+
+            return status;
+        });
+
+        return stream;
+    }
+
+    private static ResultSetReader resultSet(int... ids) {
+        ValueProtos.ResultSet.Builder resultSet = ValueProtos.ResultSet.newBuilder()
+                .addColumns(ValueProtos.Column.newBuilder()
+                        .setName("id")
+                        .setType(PrimitiveType.Int32.toPb()));
+        for (int id : ids) {
+            resultSet.addRows(ValueProtos.Value.newBuilder().addItems(PrimitiveValue.newInt32(id).toPb()));
+        }
+
+        return ProtoValueReaders.forResultSet(resultSet.build());
+    }
 }
@@ -0,0 +1,120 @@
+package tech.ydb.io.r2dbc.state;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.test.StepVerifier;
+import tech.ydb.core.Result;
+import tech.ydb.io.r2dbc.OperationsConfig;
+import tech.ydb.io.r2dbc.YdbContext;
+import tech.ydb.io.r2dbc.query.OperationType;
+import tech.ydb.io.r2dbc.result.YdbResult;
+import tech.ydb.io.r2dbc.settings.YdbTxSettings;
+import tech.ydb.proto.table.YdbTable;
+import tech.ydb.table.Session;
+import tech.ydb.table.impl.PooledTableClient;
+import tech.ydb.table.query.DataQueryResult;
+import tech.ydb.table.query.Params;
+
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class StickySessionUnitTest {
+    private static final String TEST_QUERY = "testQuery";
+
+    @Test
+    public void keepSessionBetweenStatementsTest() {
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        Session session = mockSession(tableClient);
+        YdbContext ydbContext = new YdbContext(tableClient, OperationsConfig.defaultConfig());
+        OutsideTransactionState state = new OutsideTransactionState(ydbContext, Mockito.mock(YdbTxSettings.class),
+                Duration.ZERO, new StickySession(ydbContext, Duration.ofMinutes(1), 0));
+
+        execute(state);
+        execute(state);
+
+        Mockito.verify(tableClient).createSession(any());
+        Mockito.verify(session, Mockito.never()).close();
+
+        state.close()
+                .as(StepVerifier::create)
+                .verifyComplete();
+
+        Mockito.verify(session).close();
+    }
+
+    @Test
+    public void maxStatementsTest() {
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        Session session = mockSession(tableClient);
+        YdbContext ydbContext = new YdbContext(tableClient, OperationsConfig.defaultConfig());
+        OutsideTransactionState state = new OutsideTransactionState(ydbContext, Mockito.mock(YdbTxSettings.class),
+                Duration.ZERO, new StickySession(ydbContext, Duration.ofMinutes(1), 2));
+
+        execute(state);
+        execute(state);
+        Mockito.verify(session).close();
+
+        execute(state);
+        Mockito.verify(tableClient, Mockito.times(2)).createSession(any());
+        Mockito.verify(session).close();
+    }
+
+    @Test
+    public void maxIdleTimeTest() {
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        Session session = mockSession(tableClient);
+        YdbContext ydbContext = new YdbContext(tableClient, OperationsConfig.defaultConfig());
+        StickySession stickySession = new StickySession(ydbContext, Duration.ofMillis(10), 0);
+
+        stickySession.acquire()
+                .as(StepVerifier::create)
+                .expectNext(session)
+                .verifyComplete();
+        stickySession.release(session);
+
+        Mockito.verify(session, Mockito.timeout(1000)).close();
+        stickySession.acquire()
+                .as(StepVerifier::create)
+                .expectNext(session)
+                .verifyComplete();
+        Mockito.verify(tableClient, Mockito.times(2)).createSession(any());
+    }
+
+    @Test
+    public void releaseAfterCloseTest() {
+        PooledTableClient tableClient = Mockito.mock(PooledTableClient.class);
+        Session session = mockSession(tableClient);
+        YdbContext ydbContext = new YdbContext(tableClient, OperationsConfig.defaultConfig());
+        StickySession stickySession = new StickySession(ydbContext, Duration.ofMinutes(1), 0);
+
+        stickySession.close();
+        stickySession.release(session);
+
+        Mockito.verify(session).close();
+    }
+
+    private static Session mockSession(PooledTableClient tableClient) {
+        Session session = Mockito.mock(Session.class);
+        Mockito.when(session.executeDataQuery(any(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(
+                Result.success(new DataQueryResult(YdbTable.ExecuteQueryResult.getDefaultInstance()))));
+        Mockito.when(tableClient.createSession(any()))
+                .thenReturn(CompletableFuture.completedFuture(Result.success(session)));
+
+        return session;
+    }
+
+    private static void execute(OutsideTransactionState state) {
+        state.executeDataQuery(TEST_QUERY, Params.empty(), List.of(OperationType.UPDATE))
+                .flatMapMany(NextStateResult::getResult)
+                .flatMap(YdbResult::getRowsUpdated)
+                .then()
+                .as(StepVerifier::create)
+                .verifyComplete();
+    }
+}
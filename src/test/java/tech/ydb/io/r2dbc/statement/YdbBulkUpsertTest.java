@@ -0,0 +1,101 @@
+package tech.ydb.io.r2dbc.statement;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.r2dbc.spi.Parameters;
+import io.r2dbc.spi.R2dbcType;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import tech.ydb.io.r2dbc.OperationsConfig;
+import tech.ydb.io.r2dbc.YdbConnection;
+import tech.ydb.table.values.ListType;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.StructType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class YdbBulkUpsertTest {
+    private static final String TEST_TABLE = "test_table";
+
+    @Test
+    public void chunkByRowsTest() {
+        YdbConnection connection = mockConnection(2);
+
+        connection.bulkUpsert(TEST_TABLE, Flux.range(0, 5).map(id -> Map.of("id", id, "name", "name" + id)))
+                .as(StepVerifier::create)
+                .expectNext(5L)
+                .verifyComplete();
+
+        ArgumentCaptor<ListValue> captor = ArgumentCaptor.forClass(ListValue.class);
+        Mockito.verify(connection, Mockito.times(3)).executeBulkUpsert(eq(TEST_TABLE), captor.capture());
+        assertEquals(List.of(2, 2, 1), captor.getAllValues().stream().map(ListValue::size).toList());
+        assertEquals(ListType.of(StructType.of("id", PrimitiveType.Int32, "name", PrimitiveType.Text)),
+                captor.getValue().getType());
+    }
+
+    @Test
+    public void chunkByTypeTest() {
+        YdbConnection connection = mockConnection(100);
+
+        connection.bulkUpsert(TEST_TABLE, Flux.just(
+                        Map.of("id", 1),
+                        Map.of("id", 2),
+                        Map.of("id", Parameters.in(R2dbcType.INTEGER)),
+                        Map.of("id", 3)))
+                .as(StepVerifier::create)
+                .expectNext(4L)
+                .verifyComplete();
+
+        ArgumentCaptor<ListValue> captor = ArgumentCaptor.forClass(ListValue.class);
+        Mockito.verify(connection, Mockito.times(3)).executeBulkUpsert(eq(TEST_TABLE), captor.capture());
+        assertEquals(List.of(2, 1, 1), captor.getAllValues().stream().map(ListValue::size).toList());
+    }
+
+    @Test
+    public void emptyTest() {
+        YdbConnection connection = mockConnection(100);
+
+        connection.bulkUpsert(TEST_TABLE, Flux.empty())
+                .as(StepVerifier::create)
+                .expectNext(0L)
+                .verifyComplete();
+
+        Mockito.verify(connection, Mockito.never()).executeBulkUpsert(any(), any());
+    }
+
+    @Test
+    public void nullValueTest() {
+        YdbConnection connection = mockConnection(100);
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", null);
+
+        connection.bulkUpsert(TEST_TABLE, Flux.just(row))
+                .as(StepVerifier::create)
+                .verifyError(IllegalArgumentException.class);
+    }
+
+    private static YdbConnection mockConnection(int maxRows) {
+        OperationsConfig operationsConfig = Mockito.mock(OperationsConfig.class);
+        Mockito.when(operationsConfig.getBulkUpsertMaxRows()).thenReturn(maxRows);
+        Mockito.when(operationsConfig.getBulkUpsertMaxBytes()).thenReturn(Integer.MAX_VALUE);
+        Mockito.when(operationsConfig.getBulkUpsertConcurrency()).thenReturn(1);
+        YdbConnection connection = Mockito.mock(YdbConnection.class);
+        Mockito.when(connection.getOperationsConfig()).thenReturn(operationsConfig);
+        Mockito.when(connection.executeBulkUpsert(any(), any())).thenReturn(Mono.empty());
+        Mockito.when(connection.bulkUpsert(any(), any())).thenCallRealMethod();
+
+        return connection;
+    }
+}
@@ -20,8 +20,10 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import tech.ydb.io.r2dbc.query.YdbQuery;
 import tech.ydb.io.r2dbc.YdbConnection;
+import tech.ydb.io.r2dbc.statement.binding.ParameterNames;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Egor Kuleshov
@@ -30,6 +32,7 @@ public class YdbDDLStatementTest {
     @Test
     public void testAdd() {
         YdbQuery query = mock(YdbQuery.class);
+        when(query.getParameterNames()).thenReturn(ParameterNames.empty());
         YdbConnection queryExecutor = mock(YdbConnection.class);
 
         YdbStatement statement = new YdbDDLStatement(query, queryExecutor);
@@ -41,6 +44,7 @@ public class YdbDDLStatementTest {
     @Test
     public void testBind() {
         YdbQuery query = mock(YdbQuery.class);
+        when(query.getParameterNames()).thenReturn(ParameterNames.empty());
         YdbConnection queryExecutor = mock(YdbConnection.class);
 
         YdbStatement statement = new YdbDDLStatement(query, queryExecutor);
@@ -54,6 +58,7 @@ public class YdbDDLStatementTest {
     @Test
     public void testBindNull() {
         YdbQuery query = mock(YdbQuery.class);
+        when(query.getParameterNames()).thenReturn(ParameterNames.empty());
         YdbConnection queryExecutor = mock(YdbConnection.class);
 
         YdbStatement statement = new YdbDDLStatement(query, queryExecutor);
@@ -1,5 +1,6 @@
 package tech.ydb.io.r2dbc.statement;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -7,13 +8,24 @@ import io.r2dbc.spi.Parameters;
 import io.r2dbc.spi.R2dbcType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import tech.ydb.io.r2dbc.OperationsConfig;
 import tech.ydb.io.r2dbc.query.QueryType;
 import tech.ydb.io.r2dbc.query.YdbQuery;
+import tech.ydb.io.r2dbc.query.YdbSqlParser;
 import tech.ydb.io.r2dbc.YdbConnection;
+import tech.ydb.io.r2dbc.result.YdbResult;
+import tech.ydb.io.r2dbc.tracing.YdbSpan;
+import tech.ydb.io.r2dbc.tracing.YdbTracing;
 import tech.ydb.io.r2dbc.type.YdbType;
 import tech.ydb.table.values.PrimitiveType;
 import tech.ydb.table.values.PrimitiveValue;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -173,4 +185,160 @@ public class YdbDMLStatementTest {
         Assertions.assertThrows(IllegalArgumentException.class, () -> statement.bind(-1, 1));
         Assertions.assertThrows(IllegalArgumentException.class, () -> statement.bind(3, 1));
     }
+
+    @Test
+    public void executeBatchAsTableTest() {
+        YdbConnection connection = mockBatchConnection(2);
+        YdbStatement statement = new YdbDMLStatement(YdbSqlParser.parse("UPSERT INTO t (id) VALUES (?)"), connection);
+        statement.bind(0, 1).add().bind(0, 2).add().bind(0, 3);
+
+        statement.execute()
+                .flatMap(YdbResult::getRowsUpdated)
+                .as(StepVerifier::create)
+                .expectNext(1L, 1L, 1L)
+                .verifyComplete();
+
+        Mockito.verify(connection, Mockito.times(2))
+                .executeDataQuery(startsWith("DECLARE $batch AS List<Struct<'id': Int32>>;"), any(), any());
+    }
+
+    @Test
+    public void executeBatchAsTableSplitByTypesTest() {
+        YdbConnection connection = mockBatchConnection(1000);
+        YdbStatement statement = new YdbDMLStatement(YdbSqlParser.parse("UPSERT INTO t (id) VALUES (?)"), connection);
+        statement.bind(0, 1).add().bindNull(0, Integer.class).add().bindNull(0, Integer.class);
+
+        statement.execute()
+                .as(StepVerifier::create)
+                .expectNextCount(3)
+                .verifyComplete();
+
+        Mockito.verify(connection)
+                .executeDataQuery(startsWith("DECLARE $batch AS List<Struct<'id': Int32>>;"), any(), any());
+        Mockito.verify(connection)
+                .executeDataQuery(startsWith("DECLARE $batch AS List<Struct<'id': Int32?>>;"), any(), any());
+    }
+
+    @Test
+    public void executeBatchDisabledTest() {
+        YdbConnection connection = mockBatchConnection(1000);
+        Mockito.when(connection.getOperationsConfig().isBatchAsTable()).thenReturn(false);
+        YdbStatement statement = new YdbDMLStatement(YdbSqlParser.parse("UPSERT INTO t (id) VALUES (?)"), connection);
+        statement.bind(0, 1).add().bind(0, 2);
+
+        statement.execute()
+                .as(StepVerifier::create)
+                .expectNextCount(2)
+                .verifyComplete();
+
+        Mockito.verify(connection, Mockito.times(2))
+                .executeDataQuery(eq("DECLARE $jp1 AS Int32;\nUPSERT INTO t (id) VALUES ($jp1)"), any(), any());
+    }
+
+    @Test
+    public void executeAndCommitTest() {
+        YdbConnection connection = mockBatchConnection(1000);
+        Mockito.when(connection.getOperationsConfig().isBatchAsTable()).thenReturn(false);
+        Mockito.when(connection.executeDataQueryAndCommit(any(), any(), any()))
+                .thenAnswer(invocation -> Flux.just(YdbResult.UPDATE_RESULT));
+        YdbDMLStatement statement = new YdbDMLStatement(YdbSqlParser.parse("UPSERT INTO t (id) VALUES (?)"),
+                connection);
+        statement.commit(true).bind(0, 1).add().bind(0, 2);
+
+        statement.execute()
+                .as(StepVerifier::create)
+                .expectNextCount(2)
+                .verifyComplete();
+
+        Mockito.verify(connection).executeDataQuery(any(), any(), any());
+        Mockito.verify(connection).executeDataQueryAndCommit(any(), any(), any());
+    }
+
+    private static YdbConnection mockBatchConnection(int batchMaxRows) {
+        OperationsConfig operationsConfig = mock(OperationsConfig.class);
+        Mockito.when(operationsConfig.isBatchAsTable()).thenReturn(true);
+        Mockito.when(operationsConfig.getBatchMaxRows()).thenReturn(batchMaxRows);
+        Mockito.when(operationsConfig.getBatchMaxBytes()).thenReturn(Integer.MAX_VALUE);
+        YdbConnection connection = mock(YdbConnection.class);
+        Mockito.when(connection.getOperationsConfig()).thenReturn(operationsConfig);
+        Mockito.when(connection.executeDataQuery(any(), any(), any()))
+                .thenAnswer(invocation -> Flux.just(YdbResult.UPDATE_RESULT));
+
+        return connection;
+    }
+
+    @Test
+    public void executeScanQueryTest() {
+        YdbConnection connection = mock(YdbConnection.class);
+        Mockito.when(connection.executeScanQuery(any(), any())).thenReturn(Flux.just(YdbResult.DDL_RESULT));
+        YdbDMLStatement statement = new YdbDMLStatement(YdbSqlParser.parse("SELECT * FROM t WHERE id = ?"),
+                connection);
+        statement.scanQuery(true).bind(0, 1);
+
+        statement.execute()
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .verifyComplete();
+
+        Mockito.verify(connection).executeScanQuery(eq("DECLARE $jp1 AS Int32;\nSELECT * FROM t WHERE id = $jp1"),
+                any());
+        Mockito.verify(connection, Mockito.never()).executeDataQuery(any(), any(), any());
+    }
+
+    @Test
+    public void executeScanQueryByOptionTest() {
+        YdbConnection connection = mockBatchConnection(1000);
+        Mockito.when(connection.getOperationsConfig().isScanQuery()).thenReturn(true);
+        Mockito.when(connection.isAutoCommit()).thenReturn(true);
+        Mockito.when(connection.executeScanQuery(any(), any())).thenReturn(Flux.just(YdbResult.DDL_RESULT));
+
+        new YdbDMLStatement(YdbSqlParser.parse("SELECT 1"), connection).execute()
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .verifyComplete();
+        new YdbDMLStatement(YdbSqlParser.parse("UPSERT INTO t (id) VALUES (1)"), connection).execute()
+                .as(StepVerifier::create)
+                .expectNextCount(1)
+                .verifyComplete();
+
+        Mockito.verify(connection).executeScanQuery(eq("SELECT 1"), any());
+        Mockito.verify(connection).executeDataQuery(eq("UPSERT INTO t (id) VALUES (1)"), any(), any());
+    }
+
+    @Test
+    public void executeScanQueryNotSelectTest() {
+        YdbConnection connection = mock(YdbConnection.class);
+        YdbDMLStatement statement = new YdbDMLStatement(YdbSqlParser.parse("UPSERT INTO t (id) VALUES (1)"),
+                connection);
+
+        statement.scanQuery(true).execute()
+                .as(StepVerifier::create)
+                .verifyError(IllegalStateException.class);
+
+        Mockito.verify(connection, Mockito.never()).executeScanQuery(any(), any());
+    }
+
+    @Test
+    public void executeTracedTest() {
+        List<String> spans = new ArrayList<>();
+        YdbSpan span = Mockito.mock(YdbSpan.class);
+        YdbConnection connection = mock(YdbConnection.class);
+        Mockito.when(connection.getTracer()).thenReturn((name, parent, context) -> {
+            spans.add(name);
+
+            return span;
+        });
+        Mockito.when(connection.executeDataQuery(any(), any(), any())).thenReturn(Flux.deferContextual(context ->
+                Flux.just(YdbTracing.currentSpan(context) == span ? YdbResult.UPDATE_RESULT : YdbResult.DDL_RESULT)));
+
+        new YdbDMLStatement(YdbSqlParser.parse("UPSERT INTO t (id) VALUES (1)"), connection).execute()
+                .as(StepVerifier::create)
+                .expectNext(YdbResult.UPDATE_RESULT)
+                .verifyComplete();
+
+        Assertions.assertEquals(List.of(YdbTracing.STATEMENT_EXECUTE), spans);
+        Mockito.verify(span).setAttribute(YdbTracing.OPERATION_TYPES, "UPDATE");
+        Mockito.verify(span).setAttribute(YdbTracing.BINDINGS, "1");
+        Mockito.verify(span).end();
+    }
 }
@@ -0,0 +1,135 @@
+package tech.ydb.io.r2dbc.statement;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import tech.ydb.io.r2dbc.YdbConnection;
+import tech.ydb.io.r2dbc.query.OperationType;
+import tech.ydb.io.r2dbc.query.YdbSqlParser;
+import tech.ydb.io.r2dbc.result.YdbResult;
+import tech.ydb.table.query.Params;
+import tech.ydb.table.values.PrimitiveValue;
+
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class YdbPipelineTest {
+    @Test
+    @SuppressWarnings("unchecked")
+    public void mergeStatementsTest() {
+        YdbConnection connection = Mockito.mock(YdbConnection.class);
+        Mockito.when(connection.executeDataQuery(any(), any(), any()))
+                .thenAnswer(invocation -> Flux.fromIterable(invocation.<List<OperationType>>getArgument(2))
+                        .map(unused -> YdbResult.UPDATE_RESULT));
+
+        YdbStatement select = new YdbDMLStatement(YdbSqlParser.parse("SELECT * FROM t WHERE id = ?;"), connection)
+                .bind(0, 1);
+        YdbStatement upsert = new YdbDMLStatement(YdbSqlParser.parse("UPSERT INTO t (id, v) VALUES (?, $v)"),
+                connection)
+                .bind(0, 1).bind("$v", "a").add()
+                .bind(0, 2).bind("$v", "b");
+        YdbStatement selectAfterUpsert = new YdbDMLStatement(YdbSqlParser.parse("SELECT * FROM t WHERE v = $v"),
+                connection)
+                .bind("$v", "a");
+
+        new YdbPipeline(connection)
+                .add(select)
+                .add(upsert)
+                .add(selectAfterUpsert)
+                .execute()
+                .as(StepVerifier::create)
+                .expectNextCount(4)
+                .verifyComplete();
+
+        ArgumentCaptor<String> yql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Params> params = ArgumentCaptor.forClass(Params.class);
+        ArgumentCaptor<List<OperationType>> operationTypes = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(connection, Mockito.times(2))
+                .executeDataQuery(yql.capture(), params.capture(), operationTypes.capture());
+
+        Assertions.assertTrue(yql.getAllValues().get(0).endsWith("SELECT * FROM t WHERE id = $p0_jp1;\n"
+                + "UPSERT INTO t (id, v) VALUES ($p1_jp1, $p1_v);\n"
+                + "UPSERT INTO t (id, v) VALUES ($p2_jp1, $p2_v);\n"));
+        Assertions.assertTrue(yql.getAllValues().get(0).contains("DECLARE $p2_v AS Text;\n"));
+        Assertions.assertEquals(Map.of(
+                "$p0_jp1", PrimitiveValue.newInt32(1),
+                "$p1_jp1", PrimitiveValue.newInt32(1),
+                "$p1_v", PrimitiveValue.newText("a"),
+                "$p2_jp1", PrimitiveValue.newInt32(2),
+                "$p2_v", PrimitiveValue.newText("b")), params.getAllValues().get(0).values());
+        Assertions.assertEquals(List.of(OperationType.SELECT, OperationType.UPDATE, OperationType.UPDATE),
+                operationTypes.getAllValues().get(0));
+
+        Assertions.assertEquals("DECLARE $p0_v AS Text;\nSELECT * FROM t WHERE v = $p0_v;\n",
+                yql.getAllValues().get(1));
+        Assertions.assertEquals(List.of(OperationType.SELECT), operationTypes.getAllValues().get(1));
+    }
+
+    @Test
+    public void insertAfterUpsertTest() {
+        YdbConnection connection = Mockito.mock(YdbConnection.class);
+        Mockito.when(connection.executeDataQuery(any(), any(), any())).thenReturn(Flux.just(YdbResult.UPDATE_RESULT));
+
+        new YdbPipeline(connection)
+                .add(new YdbDMLStatement(YdbSqlParser.parse("UPSERT INTO t (id) VALUES (1)"), connection))
+                .add(new YdbDMLStatement(YdbSqlParser.parse("INSERT INTO t (id) VALUES (2)"), connection))
+                .execute()
+                .as(StepVerifier::create)
+                .expectNextCount(2)
+                .verifyComplete();
+
+        Mockito.verify(connection).executeDataQuery(
+                Mockito.eq("UPSERT INTO t (id) VALUES (1);\n"), any(), Mockito.eq(List.of(OperationType.UPDATE)));
+        Mockito.verify(connection).executeDataQuery(
+                Mockito.eq("INSERT INTO t (id) VALUES (2);\n"), any(), Mockito.eq(List.of(OperationType.UPDATE)));
+    }
+
+    @Test
+    public void commitWithLastQueryTest() {
+        YdbConnection connection = Mockito.mock(YdbConnection.class);
+        Mockito.when(connection.executeDataQuery(any(), any(), any())).thenReturn(Flux.just(YdbResult.UPDATE_RESULT));
+        Mockito.when(connection.executeDataQueryAndCommit(any(), any(), any()))
+                .thenReturn(Flux.just(YdbResult.UPDATE_RESULT));
+
+        new YdbPipeline(connection)
+                .add(new YdbDMLStatement(YdbSqlParser.parse("UPSERT INTO t (id) VALUES (1)"), connection))
+                .add(new YdbDMLStatement(YdbSqlParser.parse("SELECT * FROM t"), connection))
+                .commit(true)
+                .execute()
+                .as(StepVerifier::create)
+                .expectNextCount(2)
+                .verifyComplete();
+
+        Mockito.verify(connection).executeDataQuery(any(), any(), any());
+        Mockito.verify(connection).executeDataQueryAndCommit(
+                Mockito.eq("SELECT * FROM t;\n"), any(), Mockito.eq(List.of(OperationType.SELECT)));
+    }
+
+    @Test
+    public void unboundParameterTest() {
+        YdbConnection connection = Mockito.mock(YdbConnection.class);
+        YdbStatement statement = new YdbDMLStatement(YdbSqlParser.parse("SELECT * FROM t WHERE id = ?"), connection);
+
+        new YdbPipeline(connection)
+                .add(statement)
+                .execute()
+                .as(StepVerifier::create)
+                .verifyError(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void ddlStatementTest() {
+        YdbConnection connection = Mockito.mock(YdbConnection.class);
+        YdbStatement statement = new YdbDDLStatement(YdbSqlParser.parse("CREATE TABLE t (id Int32)"), connection);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new YdbPipeline(connection).add(statement));
+    }
+}
@@ -0,0 +1,119 @@
+package tech.ydb.io.r2dbc.tracing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.ContextView;
+import tech.ydb.io.r2dbc.query.OperationType;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class YdbTracingUnitTest {
+    private final RecordingTracer tracer = new RecordingTracer();
+
+    @Test
+    public void disabledTest() {
+        Mono<Integer> mono = Mono.just(1);
+        Flux<Integer> flux = Flux.just(1);
+
+        Assertions.assertSame(mono, YdbTracing.traced(mono, null, YdbTracing.SESSION_ACQUIRE));
+        Assertions.assertSame(flux, YdbTracing.traced(flux, null, YdbTracing.RESULT_STREAM));
+    }
+
+    @Test
+    public void parentPropagationTest() {
+        Mono<Integer> acquire = YdbTracing.traced(Mono.just(1), tracer, YdbTracing.SESSION_ACQUIRE);
+        Flux<Integer> statement = YdbTracing.traced(acquire.flux(), tracer, YdbTracing.STATEMENT_EXECUTE,
+                span -> span.setAttribute(YdbTracing.OPERATION_TYPES, "SELECT"));
+
+        statement.as(StepVerifier::create)
+                .expectNext(1)
+                .verifyComplete();
+
+        Assertions.assertEquals(2, tracer.spans.size());
+        RecordingSpan statementSpan = tracer.spans.get(0);
+        RecordingSpan acquireSpan = tracer.spans.get(1);
+        Assertions.assertEquals(YdbTracing.STATEMENT_EXECUTE, statementSpan.name);
+        Assertions.assertNull(statementSpan.parent);
+        Assertions.assertEquals("SELECT", statementSpan.attributes.get(YdbTracing.OPERATION_TYPES));
+        Assertions.assertEquals(YdbTracing.SESSION_ACQUIRE, acquireSpan.name);
+        Assertions.assertSame(statementSpan, acquireSpan.parent);
+        Assertions.assertTrue(statementSpan.ended);
+        Assertions.assertTrue(acquireSpan.ended);
+    }
+
+    @Test
+    public void errorTest() {
+        YdbTracing.traced(Mono.error(new IllegalStateException()), tracer, YdbTracing.TRANSACTION_COMMIT)
+                .as(StepVerifier::create)
+                .verifyError(IllegalStateException.class);
+
+        Assertions.assertInstanceOf(IllegalStateException.class, tracer.spans.get(0).error);
+        Assertions.assertTrue(tracer.spans.get(0).ended);
+    }
+
+    @Test
+    public void cancelTest() {
+        YdbTracing.traced(Flux.never(), tracer, YdbTracing.RESULT_STREAM)
+                .as(StepVerifier::create)
+                .thenCancel()
+                .verify();
+
+        Assertions.assertEquals("true", tracer.spans.get(0).attributes.get(YdbTracing.CANCELLED));
+        Assertions.assertTrue(tracer.spans.get(0).ended);
+    }
+
+    @Test
+    public void operationTypesTest() {
+        Assertions.assertEquals("SELECT,UPDATE",
+                YdbTracing.operationTypes(List.of(OperationType.SELECT, OperationType.UPDATE)));
+    }
+
+    static final class RecordingTracer implements YdbTracer {
+        final List<RecordingSpan> spans = new ArrayList<>();
+
+        @Override
+        public YdbSpan startSpan(String name, YdbSpan parent, ContextView context) {
+            RecordingSpan span = new RecordingSpan(name, parent);
+            spans.add(span);
+
+            return span;
+        }
+    }
+
+    static final class RecordingSpan implements YdbSpan {
+        final String name;
+        final YdbSpan parent;
+        final Map<String, String> attributes = new HashMap<>();
+        Throwable error;
+        boolean ended;
+
+        RecordingSpan(String name, YdbSpan parent) {
+            this.name = name;
+            this.parent = parent;
+        }
+
+        @Override
+        public void setAttribute(String key, String value) {
+            attributes.put(key, value);
+        }
+
+        @Override
+        public void recordError(Throwable error) {
+            this.error = error;
+        }
+
+        @Override
+        public void end() {
+            ended = true;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.ydb.io.r2dbc.util;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import reactor.core.Exceptions;
+import reactor.test.StepVerifier;
+import tech.ydb.core.Status;
+import tech.ydb.core.grpc.GrpcReadStream;
+
+import static org.mockito.ArgumentMatchers.any;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class ReadStreamsTest {
+    @Test
+    @SuppressWarnings("unchecked")
+    public void streamTest() {
+        GrpcReadStream<Integer> stream = Mockito.mock(GrpcReadStream.class);
+        Mockito.when(stream.start(any())).thenAnswer(invocation -> {
+            GrpcReadStream.Observer<Integer> observer = invocation.getArgument(0);
+            observer.onNext(1);
+            observer.onNext(2);
+
+            return CompletableFuture.completedFuture(Status.SUCCESS);
+        });
+
+        ReadStreams.toFlux(() -> stream, "fail", 2)
+                .as(StepVerifier::create)
+                .expectNext(1, 2)
+                .verifyComplete();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void overflowTest() {
+        GrpcReadStream<Integer> stream = Mockito.mock(GrpcReadStream.class);
+        Mockito.when(stream.start(any())).thenAnswer(invocation -> {
+            GrpcReadStream.Observer<Integer> observer = invocation.getArgument(0);
+            for (int part = 0; part < 3; part++) {
+                observer.onNext(part);
+            }
+
+            return new CompletableFuture<Status>();
+        });
+
+        StepVerifier.create(ReadStreams.toFlux(() -> stream, "fail", 2), 0)
+                .expectSubscription()
+                .thenAwait()
+                .thenRequest(2)
+                .expectNext(0, 1)
+                .verifyErrorMatches(Exceptions::isOverflow);
+
+        Mockito.verify(stream).cancel();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2022 YANDEX LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package tech.ydb.io.r2dbc.util;
+
+import org.junit.jupiter.api.Test;
+import tech.ydb.table.values.ListValue;
+import tech.ydb.table.values.PrimitiveType;
+import tech.ydb.table.values.PrimitiveValue;
+import tech.ydb.table.values.StructValue;
+import tech.ydb.table.values.Value;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Egor Kuleshov
+ */
+public class ValueSizeEstimatorTest {
+    @Test
+    public void primitiveTest() {
+        assertSerializedSize(PrimitiveValue.newText("текст"));
+        assertSerializedSize(PrimitiveValue.newBytes(new byte[100]));
+        assertSerializedSize(PrimitiveType.Text.makeOptional().newValue(PrimitiveValue.newText("abc")));
+        assertEquals(10, ValueSizeEstimator.estimateSize(PrimitiveValue.newInt64(1)));
+    }
+
+    @Test
+    public void containerTest() {
+        Value<?> text = PrimitiveValue.newText("abc");
+
+        assertEquals(2 + 2 * 5, ValueSizeEstimator.estimateSize(ListValue.of(text, text)));
+        assertEquals(2 + 5 + 10, ValueSizeEstimator.estimateSize(
+                StructValue.of("name", text, "id", PrimitiveValue.newInt64(1))));
+    }
+
+    private static void assertSerializedSize(Value<?> value) {
+        assertEquals(value.toPb().getSerializedSize(), ValueSizeEstimator.estimateSize(value));
+    }
+}